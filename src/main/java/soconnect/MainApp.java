@@ -4,15 +4,19 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import soconnect.commons.core.Config;
 import soconnect.commons.core.LogsCenter;
 import soconnect.commons.core.Version;
 import soconnect.commons.exceptions.DataConversionException;
 import soconnect.commons.util.ConfigUtil;
+import soconnect.commons.util.FileUtil;
 import soconnect.commons.util.StringUtil;
 import soconnect.logic.Logic;
 import soconnect.logic.LogicManager;
@@ -24,11 +28,13 @@ import soconnect.model.ReadOnlyUserPrefs;
 import soconnect.model.SoConnect;
 import soconnect.model.TodoList;
 import soconnect.model.UserPrefs;
+import soconnect.model.person.Address;
+import soconnect.model.person.Person;
 import soconnect.model.tag.Tag;
 import soconnect.model.todo.predicates.TodoContainsDatePredicate;
 import soconnect.model.util.SampleDataUtil;
-import soconnect.storage.JsonSoConnectStorage;
-import soconnect.storage.JsonTodoListStorage;
+import soconnect.storage.AsyncStorageManager;
+import soconnect.storage.DataFileFormat;
 import soconnect.storage.JsonUserPrefsStorage;
 import soconnect.storage.SoConnectStorage;
 import soconnect.storage.Storage;
@@ -54,6 +60,8 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private Optional<List<Person>> personPreview;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing SoConnect ]===========================");
@@ -64,13 +72,23 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SoConnectStorage soConnectStorage = new JsonSoConnectStorage(userPrefs.getSoConnectFilePath());
-        TodoListStorage todoListStorage = new JsonTodoListStorage(userPrefs.getTodoListFilePath());
-        storage = new StorageManager(soConnectStorage, todoListStorage, userPrefsStorage);
+        Path soConnectFilePath = userPrefs.getSoConnectFilePath();
+        Path todoListFilePath = userPrefs.getTodoListFilePath();
+        SoConnectStorage soConnectStorage =
+                DataFileFormat.of(soConnectFilePath).createSoConnectStorage(soConnectFilePath);
+        TodoListStorage todoListStorage = DataFileFormat.of(todoListFilePath).createTodoListStorage(todoListFilePath);
+        storage = new AsyncStorageManager(new StorageManager(soConnectStorage, todoListStorage, userPrefsStorage));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        personPreview = readPersonPreview(storage);
+        if (personPreview.isPresent()) {
+            // The data is loaded in the background once the window shows the preview
+            model = new ModelManager(new SoConnect(), new TodoList(), userPrefs, Platform::runLater);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logAddressFootprint();
+        }
 
         logic = new LogicManager(model, storage);
 
@@ -79,14 +97,67 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s SoConnect and TodoList and
-     * from {@code userPrefs}.<br> Sample data will be used instead if SoConnect or TodoList is not found, or empty
-     * data files will be used instead if errors occur when reading.
+     * from {@code userPrefs}.<br> Sample data will be used instead if SoConnect or TodoList is not found. If errors
+     * occur when reading, the backup of the data file will be used instead, or empty data if it cannot be read either.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         ReadOnlySoConnect initialSoConnectData = initSoConnect(storage);
         ReadOnlyTodoList initialTodoListData = initTodoList(storage, initialSoConnectData);
 
-        return new ModelManager(initialSoConnectData, initialTodoListData, userPrefs);
+        return new ModelManager(initialSoConnectData, initialTodoListData, userPrefs, Platform::runLater);
+    }
+
+    /**
+     * Returns the persons of {@code storage}'s SoConnect as a list that reads each person only when it is shown, or
+     * {@code Optional.empty()} if they cannot be read that way, in which case the data is loaded before the window
+     * is shown.
+     */
+    private Optional<List<Person>> readPersonPreview(Storage storage) {
+        try {
+            return storage.readPersonsLazily();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Persons cannot be shown before the data is loaded: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads the data from {@code storage} in the background, then sets it in the model and ends the preview of the
+     * persons on the JavaFX application thread. If the data fails to load, commands stay disabled.
+     */
+    private void loadModelInBackground() {
+        CompletableFuture.runAsync(() -> {
+            ReadOnlySoConnect initialSoConnectData = initSoConnect(storage);
+            ReadOnlyTodoList initialTodoListData = initTodoList(storage, initialSoConnectData);
+            Platform.runLater(() -> {
+                try {
+                    model.setSoConnect(initialSoConnectData);
+                    model.setTodoList(initialTodoListData);
+                } catch (RuntimeException e) {
+                    failLoading(e);
+                    return;
+                }
+                logAddressFootprint();
+                ui.endPreview();
+            });
+        }).exceptionally(e -> {
+            Platform.runLater(() -> failLoading(e));
+            return null;
+        });
+    }
+
+    /**
+     * Keeps commands disabled after the data failed to load with {@code error}, since the model may still hold the
+     * empty data in place of the data file, which must not be saved over it.
+     */
+    private void failLoading(Throwable error) {
+        logger.severe("Failed to load data, commands are disabled " + StringUtil.getDetails(error));
+        ui.failPreview();
+    }
+
+    private void logAddressFootprint() {
+        logger.info("Address values in memory: " + Address.getFootprintReport(model.getSoConnect().getPersonList()
+                .stream().map(Person::getAddress).collect(Collectors.toList())));
     }
 
     private ReadOnlySoConnect initSoConnect(Storage storage) {
@@ -99,12 +170,25 @@ public class MainApp extends Application {
             }
             return soConnectOptional.orElseGet(SampleDataUtil::getSampleSoConnect);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty SoConnect");
-            return new SoConnect();
+            logger.warning("Data file not in the correct format. Will be trying its backup");
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty SoConnect");
-            return new SoConnect();
+            logger.warning("Problem while reading from the file. Will be trying its backup");
         }
+
+        Path filePath = storage.getSoConnectFilePath();
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        try {
+            Optional<ReadOnlySoConnect> backupOptional = storage.readSoConnect(backupFilePath);
+            if (backupOptional.isPresent()) {
+                logger.warning("Will be starting with the SoConnect in " + backupFilePath);
+                setAside(filePath);
+                return backupOptional.get();
+            }
+            logger.warning("Backup file not found. Will be starting with an empty SoConnect");
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading from the backup file. Will be starting with an empty SoConnect");
+        }
+        return new SoConnect();
     }
 
     private ReadOnlyTodoList initTodoList(Storage storage, ReadOnlySoConnect initialSoConnectData) {
@@ -116,11 +200,36 @@ public class MainApp extends Application {
             }
             return todoListOptional.orElseGet(() -> MainApp.syncTags(initialSoConnectData));
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TodoList");
-            return new TodoList();
+            logger.warning("Data file not in the correct format. Will be trying its backup");
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty TodoList");
-            return new TodoList();
+            logger.warning("Problem while reading from the file. Will be trying its backup");
+        }
+
+        Path filePath = storage.getTodoListFilePath();
+        Path backupFilePath = FileUtil.getBackupPath(filePath);
+        try {
+            Optional<ReadOnlyTodoList> backupOptional = storage.readTodoList(initialSoConnectData, backupFilePath);
+            if (backupOptional.isPresent()) {
+                logger.warning("Will be starting with the TodoList in " + backupFilePath);
+                setAside(filePath);
+                return backupOptional.get();
+            }
+            logger.warning("Backup file not found. Will be starting with an empty TodoList");
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while reading from the backup file. Will be starting with an empty TodoList");
+        }
+        return new TodoList();
+    }
+
+    /**
+     * Keeps the unreadable data file at {@code filePath} aside, so that the first save does not replace the backup
+     * that the data was read from.
+     */
+    private static void setAside(Path filePath) {
+        try {
+            logger.warning("Unreadable data file kept as " + FileUtil.setAside(filePath));
+        } catch (IOException e) {
+            logger.warning("Failed to keep the unreadable data file aside : " + StringUtil.getDetails(e));
         }
     }
 
@@ -218,6 +327,10 @@ public class MainApp extends Application {
         ui.start(primaryStage);
         model.updateFilteredTodoList(TodoContainsDatePredicate.currentDate());
         model.updateTodoListHeader(TodoListPanel.TODAY_HEADER);
+        if (personPreview.isPresent()) {
+            ui.showPreview(personPreview.get());
+            loadModelInBackground();
+        }
     }
 
     @Override
@@ -228,5 +341,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -1,16 +1,27 @@
 package soconnect.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files.
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_EXTENSION = ".tmp";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+    public static final String UNREADABLE_FILE_EXTENSION = ".unreadable";
+
     private static final String CHARSET = "UTF-8";
 
     public static boolean isFileExists(Path file) {
@@ -77,9 +88,124 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFile(Path, ContentWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content streamed by {@code contentWriter} to a file, so that a crash leaves either the old or the new
+     * content in the file and never part of it.
+     * The content is written to a temporary file beside the file, synced to the disk, and renamed over the file, and
+     * the directory is synced so that the rename itself survives a crash.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @param file The file to write to.
+     * @param contentWriter Writes the content to the given stream, which it must not close.
+     * @see #writeToFileWithBackup(Path, ContentWriter)
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFile(file, contentWriter, false);
+    }
+
+    /**
+     * Writes the content streamed by {@code contentWriter} to a file in the same way as
+     * {@link #writeToFile(Path, ContentWriter)}, and keeps the previous content of the file in a backup file ending
+     * with {@code BACKUP_FILE_EXTENSION}.
+     * Only the data files are backed up, as they are the ones read back from their backup when they cannot be read.
+     *
+     * @param file The file to write to.
+     * @param contentWriter Writes the content to the given stream, which it must not close.
+     */
+    public static void writeToFileWithBackup(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFile(file, contentWriter, true);
+    }
+
+    private static void writeToFile(Path file, ContentWriter contentWriter, boolean isBackedUp) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getSiblingPath(file, TEMP_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            contentWriter.write(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (isBackedUp && Files.exists(file)) {
+            backUp(file);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Syncs the entries of {@code dir} to the disk.
+     * Some platforms, such as Windows, cannot open a directory to sync it, in which case nothing is done.
+     */
+    private static void syncDirectory(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is left to the file system to sync
+        }
+    }
+
+    /**
+     * Returns the path of the backup of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return getSiblingPath(file, BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Renames {@code file}, which could not be read, to a file ending with {@code UNREADABLE_FILE_EXTENSION}, so that
+     * it is kept for inspection but does not replace the backup of {@code file} on the next write.
+     *
+     * @return The path the file was renamed to.
+     */
+    public static Path setAside(Path file) throws IOException {
+        Path unreadableFile = getSiblingPath(file, UNREADABLE_FILE_EXTENSION);
+        Files.move(file, unreadableFile, StandardCopyOption.REPLACE_EXISTING);
+        return unreadableFile;
+    }
+
+    /**
+     * Replaces the backup of {@code file} with its content, keeping {@code file} in place all along.
+     * The backup is a hard link to the file where links are supported, so no content is copied.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backupFile = getBackupPath(file);
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path getSiblingPath(Path file, String extension) {
+        return file.resolveSibling(file.getFileName() + extension);
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
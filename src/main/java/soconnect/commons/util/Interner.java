@@ -0,0 +1,69 @@
+package soconnect.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Shares one instance among equal values, so that a value repeated across the data is held in memory once.
+ * An interner is meant to be used for a single load of the data and then dropped, so it holds its instances
+ * strongly. It can be used by several threads at once, as when the data is converted in parallel.
+ */
+public class Interner<T> {
+
+    private final Map<T, T> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the estimated number of bytes held by {@code value}: the {@code String} object and its array of
+     * one-byte characters, as held by a JVM with compressed references and compact strings.
+     */
+    public static long estimateStringSize(String value) {
+        return 24 + 16 + value.length();
+    }
+
+    /**
+     * Returns a report of how the given values currently share their instances: the number of instances and of
+     * distinct values held, and the memory saved compared to holding one instance per value.
+     *
+     * @param sizeEstimator Estimates the bytes held by a value.
+     */
+    public static <T> String getSharingReport(Collection<T> values, ToLongFunction<T> sizeEstimator) {
+        requireAllNonNull(values, sizeEstimator);
+        Set<T> heldInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<T> distinctValues = new HashSet<>();
+        long savedBytes = 0;
+        for (T value : values) {
+            distinctValues.add(value);
+            if (!heldInstances.add(value)) {
+                savedBytes += sizeEstimator.applyAsLong(value);
+            }
+        }
+        return String.format("%1$d values held in %2$d instances of %3$d distinct values, about %4$d bytes saved",
+                values.size(), heldInstances.size(), distinctValues.size(), savedBytes);
+    }
+
+    /**
+     * Returns the shared instance of the values equal to {@code value}, which is {@code value} itself if no equal
+     * value was interned before.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T instance = instances.putIfAbsent(value, value);
+        return instance == null ? value : instance;
+    }
+
+    /**
+     * Returns the number of distinct values held.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
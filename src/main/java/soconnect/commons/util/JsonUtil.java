@@ -3,6 +3,8 @@ package soconnect.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,9 +13,12 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
@@ -33,6 +38,7 @@ public class JsonUtil {
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
             .registerModule(new SimpleModule("SimpleModule")
@@ -40,7 +46,7 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFile(jsonFile, out -> writeJson(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -114,6 +120,87 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Writes the JSON data representation of a given instance of a class to {@code out}, without building it in
+     * memory first. The stream is left open.
+     *
+     * @param out The stream to write to.
+     * @param instance The T object to be converted into JSON.
+     * @param <T> The generic type to create an instance of.
+     */
+    public static <T> void writeJson(OutputStream out, T instance) throws IOException {
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, instance);
+    }
+
+    /**
+     * Returns a generator that writes pretty-printed JSON data to {@code out}, one token or value at a time.
+     * Closing the generator flushes it and leaves the stream open.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Writes the JSON data representation of a given instance of a class as the next value of {@code generator},
+     * without flushing it.
+     *
+     * @param generator The generator to write to.
+     * @param instance The T object to be converted into JSON.
+     * @param <T> The generic type to create an instance of.
+     */
+    public static <T> void writeJsonValue(JsonGenerator generator, T instance) throws IOException {
+        objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValue(generator, instance);
+    }
+
+    /**
+     * Returns a parser that reads the JSON data in {@code in} one token or value at a time.
+     * Closing the parser closes the stream.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Reads the value at the current token of {@code parser} as an instance of a class, leaving the parser at the
+     * last token of the value.
+     *
+     * @param <T> The generic type to create an instance of.
+     * @return The instance of T with the specified values in the JSON value.
+     */
+    public static <T> T readJsonValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any whitespace.
+     *
+     * @param instance The T object to be converted into the JSON string.
+     * @param <T> The generic type to create an instance of.
+     * @return JSON data representation of the given class instance, in a single line.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given string representation of a JSON data to a tree of JSON nodes.
+     *
+     * @return The root of the tree, or null if {@code json} has no content.
+     */
+    public static JsonNode fromJsonStringToTree(String json) throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * Converts a given tree of JSON nodes to instance of a class.
+     *
+     * @param <T> The generic type to create an instance of.
+     * @return The instance of T with the specified values in the tree.
+     */
+    public static <T> T fromJsonTree(JsonNode tree, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
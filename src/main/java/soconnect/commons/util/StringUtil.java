@@ -7,13 +7,24 @@ import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.stream.Stream;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    /**
+     * Orders strings ignoring case, and then exactly, so that strings equal ignoring case are kept apart.
+     * In this order, the strings that start with a prefix, ignoring case, are next to each other.
+     */
+    public static final Comparator<String> IGNORE_CASE_ORDER =
+            String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -64,6 +75,19 @@ public class StringUtil {
         return wordsInPreppedSentence.containsAll(preppedKeywords);
     }
 
+    /**
+     * Returns the upper-cased words of the {@code keywords}, split on whitespace in the same way as
+     * {@link #containsKeywordsIgnoreCase(String, String)} splits the keywords.
+     *
+     * @param keywords Cannot be null, cannot be empty, can be multiple words.
+     */
+    public static String[] toUpperCaseKeywords(String keywords) {
+        requireNonNull(keywords);
+        String preppedWord = keywords.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        return preppedWord.toUpperCase().split("\\s+");
+    }
+
     /**
      * Returns true if the {@code sentence} contains some of the {@code keywords}.
      *   Ignores case and order, but full keywords match is not required.
@@ -127,6 +151,28 @@ public class StringUtil {
         return sentence.toLowerCase().startsWith(preppedSubString.toLowerCase());
     }
 
+    /**
+     * Returns the entries of the {@code map} whose keys start with the {@code prefix}, ignoring case, in the order of
+     * the map. The entries are found lazily, so only the entries consumed from the stream are looked at.
+     *
+     * @param map Cannot be null, must be ordered by {@link #IGNORE_CASE_ORDER}.
+     * @param prefix Cannot be null.
+     */
+    public static <V> Stream<Map.Entry<String, V>> streamEntriesStartingWithIgnoreCase(NavigableMap<String, V> map,
+                                                                                     String prefix) {
+        requireAllNonNull(map, prefix);
+        // Keys equal to the prefix ignoring case may be ordered before it
+        String firstKey = prefix;
+        for (String key : map.headMap(prefix, false).descendingKeySet()) {
+            if (!key.equalsIgnoreCase(prefix)) {
+                break;
+            }
+            firstKey = key;
+        }
+        return map.tailMap(firstKey, true).entrySet().stream()
+                .takeWhile(entry -> entry.getKey().regionMatches(true, 0, prefix, 0, prefix.length()));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
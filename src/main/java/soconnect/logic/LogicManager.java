@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import soconnect.commons.core.GuiSettings;
 import soconnect.commons.core.LogsCenter;
@@ -34,6 +35,10 @@ public class LogicManager implements Logic {
     private final SoConnectParser soConnectParser;
     private final Autocomplete autocomplete;
 
+    // Set when the data changes and cleared once it is saved, so that unchanged data is not saved again
+    private boolean isSoConnectModified = false;
+    private boolean isTodoListModified = false;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -42,6 +47,11 @@ public class LogicManager implements Logic {
         this.storage = storage;
         soConnectParser = new SoConnectParser();
         autocomplete = new AutocompleteManager(model.getSoConnect());
+
+        ListChangeListener<Object> soConnectListener = unused -> isSoConnectModified = true;
+        model.getSoConnect().getPersonList().addListener(soConnectListener);
+        model.getSoConnect().getTagList().addListener(soConnectListener);
+        model.getTodoList().getTodoList().addListener((ListChangeListener<Todo>) unused -> isTodoListModified = true);
     }
 
     @Override
@@ -52,11 +62,24 @@ public class LogicManager implements Logic {
         Command command = soConnectParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveSoConnect(model.getSoConnect());
+        // Commands that only read or filter the data, such as list and search, do not save anything
+        if (isSoConnectModified) {
             autocomplete.updateSoConnect(model.getSoConnect());
-            storage.saveTodoList(model.getTodoList());
+        }
+        try {
+            if (isSoConnectModified) {
+                storage.saveSoConnect(model.getSoConnect());
+                isSoConnectModified = false;
+            }
+            if (isTodoListModified) {
+                storage.saveTodoList(model.getTodoList());
+                isTodoListModified = false;
+            }
+            storage.checkSaveFailure();
         } catch (IOException ioe) {
+            // A save that failed in the background may be of either file, so both are saved again next time
+            isSoConnectModified = true;
+            isTodoListModified = true;
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
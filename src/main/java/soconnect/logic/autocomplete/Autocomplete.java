@@ -16,6 +16,15 @@ public interface Autocomplete {
      */
     void updateSoConnect(ReadOnlySoConnect soConnect);
 
+    /**
+     * Registers the {@code provider} of the autocomplete entries of the command with {@code commandWords}, such as
+     * {@code "search"} or {@code "tag add"}, replacing any provider registered for them before.
+     *
+     * @param commandWords The command word, followed by the subcommand word if the command has subcommands.
+     * @param provider The provider of the autocomplete entries of the command.
+     */
+    void registerProvider(String commandWords, AutocompleteProvider provider);
+
     /**
      * Generates a list of autocomplete entries that matches the given user input.
      *
@@ -24,6 +33,13 @@ public interface Autocomplete {
      */
     List<String> getAutocompleteEntries(String userInput);
 
+    /**
+     * Records that the user selected the {@code autocompleteEntry}, so that its value is ranked higher afterwards.
+     *
+     * @param autocompleteEntry The autocomplete entry selected by the user.
+     */
+    void recordSelection(String autocompleteEntry);
+
     /**
      * Gets a valid argument if the given {@code userInput} is a search command input,
      * otherwise returns an invalid argument. It determines whether the {@code userInput} is a
@@ -53,7 +69,8 @@ public interface Autocomplete {
     String getLastPrefixArgument(String argsString, Prefix... prefixes);
 
     /**
-     * Updates the filter of the filtered person list based on the preamble in the given {@code argsString}.
+     * Updates the filter of the persons whose values are suggested based on the preamble in the given
+     * {@code argsString}.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value...}
      */
@@ -0,0 +1,136 @@
+package soconnect.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import soconnect.commons.core.LogsCenter;
+
+/**
+ * Computes autocomplete entries on a background thread once the user input has stopped changing for a short delay.
+ * A new request cancels the pending one, and the entries of a request are only delivered if no request was made
+ * after it, so stale entries are never shown.
+ */
+public class AutocompleteExecutor {
+
+    public static final long DEFAULT_DEBOUNCE_DELAY_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(AutocompleteExecutor.class);
+
+    private final Autocomplete autocomplete;
+    private final Executor deliveryExecutor;
+    private final long debounceDelayMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long latestRequestId = 0;
+    private ScheduledFuture<?> pendingRequest;
+
+    /**
+     * Constructs an {@code AutocompleteExecutor} with the default debounce delay.
+     *
+     * @param autocomplete The autocomplete that computes the entries.
+     * @param deliveryExecutor The executor that delivers the entries, such as the thread of the user interface.
+     */
+    public AutocompleteExecutor(Autocomplete autocomplete, Executor deliveryExecutor) {
+        this(autocomplete, deliveryExecutor, DEFAULT_DEBOUNCE_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs an {@code AutocompleteExecutor}.
+     *
+     * @param autocomplete The autocomplete that computes the entries.
+     * @param deliveryExecutor The executor that delivers the entries, such as the thread of the user interface.
+     * @param debounceDelayMillis The time in milliseconds that the user input must stay unchanged for.
+     */
+    public AutocompleteExecutor(Autocomplete autocomplete, Executor deliveryExecutor, long debounceDelayMillis) {
+        requireAllNonNull(autocomplete, deliveryExecutor);
+        this.autocomplete = autocomplete;
+        this.deliveryExecutor = deliveryExecutor;
+        this.debounceDelayMillis = debounceDelayMillis;
+    }
+
+    /**
+     * Requests the autocomplete entries of {@code userInput}, cancelling any earlier request.
+     * {@code entriesConsumer} is called by the delivery executor, unless another request is made first.
+     *
+     * @param userInput The input from the user.
+     * @param entriesConsumer The consumer of the autocomplete entries.
+     */
+    public synchronized void request(String userInput, Consumer<List<String>> entriesConsumer) {
+        requireAllNonNull(userInput, entriesConsumer);
+        long requestId = cancelPendingRequest();
+        pendingRequest = scheduler.schedule(() -> compute(requestId, userInput, entriesConsumer),
+                debounceDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records that the user selected the {@code autocompleteEntry}, on the same thread that computes entries.
+     *
+     * @param autocompleteEntry The autocomplete entry selected by the user.
+     */
+    public void recordSelection(String autocompleteEntry) {
+        requireNonNull(autocompleteEntry);
+        scheduler.execute(() -> autocomplete.recordSelection(autocompleteEntry));
+    }
+
+    /**
+     * Cancels the pending request, if any, so that no entries are delivered until the next request.
+     */
+    public synchronized void cancel() {
+        cancelPendingRequest();
+    }
+
+    /**
+     * Stops the background thread. No entries are delivered afterwards.
+     */
+    public synchronized void shutdown() {
+        cancelPendingRequest();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Cancels the pending request and returns the id of the next request.
+     */
+    private long cancelPendingRequest() {
+        if (pendingRequest != null) {
+            pendingRequest.cancel(false);
+            pendingRequest = null;
+        }
+        return ++latestRequestId;
+    }
+
+    private synchronized boolean isLatestRequest(long requestId) {
+        return requestId == latestRequestId;
+    }
+
+    private void compute(long requestId, String userInput, Consumer<List<String>> entriesConsumer) {
+        if (!isLatestRequest(requestId)) {
+            return;
+        }
+        List<String> entries;
+        try {
+            entries = autocomplete.getAutocompleteEntries(userInput);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to compute autocomplete entries for: " + userInput + " " + e);
+            return;
+        }
+        deliveryExecutor.execute(() -> {
+            // A request made while the entries were being computed or delivered makes them stale
+            if (isLatestRequest(requestId)) {
+                entriesConsumer.accept(entries);
+            }
+        });
+    }
+}
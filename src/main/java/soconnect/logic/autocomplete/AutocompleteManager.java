@@ -1,6 +1,6 @@
 package soconnect.logic.autocomplete;
 
-import static soconnect.commons.util.StringUtil.startWithIgnoreCase;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 import static soconnect.logic.parser.ArgumentTokenizer.PrefixArgument;
 import static soconnect.logic.parser.ArgumentTokenizer.tokenizeToList;
 import static soconnect.logic.parser.CliSyntax.INDICATOR_ADDRESS;
@@ -9,9 +9,12 @@ import static soconnect.logic.parser.CliSyntax.INDICATOR_NAME;
 import static soconnect.logic.parser.CliSyntax.INDICATOR_PHONE;
 import static soconnect.logic.parser.CliSyntax.INDICATOR_TAG;
 import static soconnect.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static soconnect.logic.parser.CliSyntax.PREFIX_DATE;
+import static soconnect.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static soconnect.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
 import static soconnect.logic.parser.CliSyntax.PREFIX_PHONE;
+import static soconnect.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static soconnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static soconnect.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static soconnect.model.Model.PREDICATE_SHOW_NO_PERSON;
@@ -19,20 +22,37 @@ import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
 import static soconnect.model.person.search.SearchPrefix.convertPrefixToEnumType;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.ListChangeListener;
+import soconnect.logic.commands.EditCommand;
 import soconnect.logic.commands.SearchCommand;
+import soconnect.logic.commands.tagcommands.TagAddCommand;
+import soconnect.logic.commands.tagcommands.TagCommand;
+import soconnect.logic.commands.tagcommands.TagDeleteCommand;
+import soconnect.logic.commands.tagcommands.TagEditCommand;
+import soconnect.logic.commands.tagcommands.TagRemoveCommand;
+import soconnect.logic.commands.todo.TodoAddCommand;
+import soconnect.logic.commands.todo.TodoCommand;
+import soconnect.logic.commands.todo.TodoEditCommand;
+import soconnect.logic.commands.todo.TodoShowCommand;
 import soconnect.logic.parser.ArgumentMultimap;
 import soconnect.logic.parser.ArgumentTokenizer;
 import soconnect.logic.parser.Prefix;
 import soconnect.model.ReadOnlySoConnect;
 import soconnect.model.person.Person;
 import soconnect.model.person.search.ContactContainsAllKeywordsPredicate;
+import soconnect.model.tag.Tag;
+import soconnect.model.todo.Priority;
 
 /**
  * Manager of the autocomplete component.
@@ -42,38 +62,127 @@ public class AutocompleteManager implements Autocomplete {
 
     public static final String INVALID_PREFIX_ARGUMENT = "";
 
-    private static final Pattern SEARCH_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Pattern COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    private static final List<String> PRIORITIES =
+            List.of(Priority.PRIORITY_HIGH, Priority.PRIORITY_MEDIUM, Priority.PRIORITY_LOW);
 
     // In the autocomplete display box, it will include the original search hence it
     // will show a maximum of AUTOCOMPLETE_ENTRIES_LIMIT + 1 autocomplete entries
     private static final int AUTOCOMPLETE_ENTRIES_LIMIT = 10;
 
-    private ReadOnlySoConnect soConnect;
+    // The number of values, in case-insensitive order, that the autocomplete entries are ranked from, in addition to
+    // the values selected before
+    private static final int RANKED_VALUES_LIMIT = 100;
+
+    // Set by the thread executing commands and read by the thread computing autocomplete entries
+    private volatile ReadOnlySoConnect soConnect;
+
+    // The filter that a person must satisfy for its values to be suggested
+    private Predicate<Person> personFilter = PREDICATE_SHOW_ALL_PERSONS;
+
+    // The arguments that personFilter is compiled from, so that an identical search is not compiled again
+    private String filteredArgsString;
+
+    // The values ranked for the last argument, which are narrowed down while the user appends to the argument
+    private Candidates lastCandidates;
 
-    private final FilteredList<Person> filteredPersons;
+    private final AutocompleteRanker ranker = new AutocompleteRanker();
+
+    // Incremented whenever the persons change, which makes the last candidates stale
+    private final AtomicLong personsVersion = new AtomicLong();
+
+    private final ListChangeListener<Person> personsListener = unused -> personsVersion.incrementAndGet();
+
+    // The providers of the autocomplete entries, keyed by the command words they complete
+    private final Map<String, AutocompleteProvider> providers = new ConcurrentHashMap<>();
 
     /**
      * Constructs a {@code AutocompleteManager} with the given {@code soConnect}.
+     * The entries are only looked up in the indexes of {@code soConnect}, so they can be computed on a thread other
+     * than the one executing commands.
      *
      * @param soConnect The soConnect data.
      */
     public AutocompleteManager(ReadOnlySoConnect soConnect) {
         this.soConnect = soConnect;
-        filteredPersons = new FilteredList<>(this.soConnect.getPersonList());
+        soConnect.getPersonList().addListener(personsListener);
+        registerDefaultProviders();
+    }
+
+    /**
+     * Registers the providers of the commands that have autocomplete entries.
+     * Every provider looks the values up in the indexes of the soConnect, so no provider scans the persons or tags.
+     */
+    private void registerDefaultProviders() {
+        registerProvider(SearchCommand.COMMAND_WORD, this::autocompleteSearch);
+
+        PrefixAutocompleteProvider todoProvider =
+                new PrefixAutocompleteProvider(PREFIX_DESCRIPTION, PREFIX_DATE, PREFIX_PRIORITY, PREFIX_TAG)
+                        .withValues(PREFIX_PRIORITY, this::autocompletePriorities)
+                        .withValues(PREFIX_TAG, this::autocompleteTagNames);
+        registerProvider(TodoCommand.COMMAND_WORD + " " + TodoAddCommand.SUB_COMMAND_WORD, todoProvider);
+        registerProvider(TodoCommand.COMMAND_WORD + " " + TodoEditCommand.SUB_COMMAND_WORD, todoProvider);
+        registerProvider(TodoCommand.COMMAND_WORD + " " + TodoShowCommand.SUB_COMMAND_WORD, todoProvider);
+
+        PrefixAutocompleteProvider tagProvider = new PrefixAutocompleteProvider(PREFIX_TAG)
+                .withValues(PREFIX_TAG, this::autocompleteTagNames);
+        registerProvider(TagCommand.COMMAND_WORD + " " + TagAddCommand.COMMAND_WORD, tagProvider);
+        registerProvider(TagCommand.COMMAND_WORD + " " + TagRemoveCommand.COMMAND_WORD, tagProvider);
+        registerProvider(TagCommand.COMMAND_WORD + " " + TagEditCommand.COMMAND_WORD, tagProvider);
+        registerProvider(TagCommand.COMMAND_WORD + " " + TagDeleteCommand.COMMAND_WORD, tagProvider);
+
+        registerProvider(EditCommand.COMMAND_WORD,
+                new PrefixAutocompleteProvider(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG)
+                        .withValues(PREFIX_TAG, this::autocompleteTagNames));
+    }
+
+    @Override
+    public void registerProvider(String commandWords, AutocompleteProvider provider) {
+        requireAllNonNull(commandWords, provider);
+        providers.put(commandWords, provider);
     }
 
     @Override
     public void updateSoConnect(ReadOnlySoConnect soConnect) {
+        if (soConnect != this.soConnect) {
+            this.soConnect.getPersonList().removeListener(personsListener);
+            soConnect.getPersonList().addListener(personsListener);
+        }
         this.soConnect = soConnect;
+        personsVersion.incrementAndGet();
     }
 
     @Override
     public List<String> getAutocompleteEntries(String userInput) {
-        String searchCommandArguments = this.getSearchCommandArguments(userInput);
-        if (searchCommandArguments.equals(INVALID_SEARCH_COMMAND_ARGUMENT)) {
+        Matcher matcher = COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            return new ArrayList<>();
+        }
+        String commandWord = matcher.group("commandWord");
+        String arguments = matcher.group("arguments");
+
+        // A provider of the command with its subcommand, such as "tag add", is preferred over one of the command
+        Matcher subCommandMatcher = COMMAND_FORMAT.matcher(arguments.trim());
+        if (subCommandMatcher.matches()) {
+            String commandWords = commandWord + " " + subCommandMatcher.group("commandWord");
+            AutocompleteProvider provider = providers.get(commandWords);
+            if (provider != null) {
+                return provider.getAutocompleteEntries(commandWords, subCommandMatcher.group("arguments"));
+            }
+        }
+        AutocompleteProvider provider = providers.get(commandWord);
+        if (provider == null) {
             return new ArrayList<>();
         }
+        return provider.getAutocompleteEntries(commandWord, arguments);
+    }
 
+    /**
+     * Generates the autocomplete entries of the {@code searchCommandArguments} of a search command, with the values
+     * held by the persons that the search so far would find.
+     */
+    private List<String> autocompleteSearch(String commandWord, String searchCommandArguments) {
         String lastPrefixArgument = getLastPrefixArgument(searchCommandArguments, PREFIX_NAME, PREFIX_PHONE,
                 PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
         if (lastPrefixArgument.equals(INVALID_PREFIX_ARGUMENT)) {
@@ -88,10 +197,29 @@ public class AutocompleteManager implements Autocomplete {
         return generateAutocompleteEntries(argsWithoutLastPrefixArgument, lastPrefixArgument);
     }
 
+    @Override
+    public void recordSelection(String autocompleteEntry) {
+        Matcher matcher = COMMAND_FORMAT.matcher(autocompleteEntry.trim());
+        if (!matcher.matches()) {
+            return;
+        }
+
+        // Only the values of person fields and tags are ranked, so the values of todo prefixes are not recorded
+        String lastPrefixArgument = getLastPrefixArgument(matcher.group("arguments"), PREFIX_NAME, PREFIX_PHONE,
+                PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_DESCRIPTION, PREFIX_DATE, PREFIX_PRIORITY);
+        if (lastPrefixArgument.equals(INVALID_PREFIX_ARGUMENT)) {
+            return;
+        }
+
+        String[] lastPrefixArgumentList = lastPrefixArgument.split("/", 2);
+        SearchPrefixCommand field = convertPrefixToEnumType(new Prefix(lastPrefixArgumentList[0] + "/"));
+        ranker.recordSelection(field, lastPrefixArgumentList[1].trim());
+    }
+
     @Override
     public String getSearchCommandArguments(String userInput) {
         String trimmedUserInput = userInput.trim();
-        Matcher matcher = SEARCH_COMMAND_FORMAT.matcher(trimmedUserInput);
+        Matcher matcher = COMMAND_FORMAT.matcher(trimmedUserInput);
         if (!matcher.matches()) {
             return INVALID_SEARCH_COMMAND_ARGUMENT;
         }
@@ -131,6 +259,10 @@ public class AutocompleteManager implements Autocomplete {
 
     @Override
     public void updateFilteredPersonList(String argsString) {
+        if (argsString.equals(filteredArgsString)) {
+            // The filter does not depend on the persons, so it can be reused as it is
+            return;
+        }
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(argsString, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                         PREFIX_ADDRESS, PREFIX_TAG);
@@ -139,15 +271,15 @@ public class AutocompleteManager implements Autocomplete {
         switch (condition) {
         case SearchCommand.AND_CONDITION:
         case SearchCommand.EMPTY_CONDITION:
-            filteredPersons.setPredicate(new ContactContainsAllKeywordsPredicate(argMultimap));
+            personFilter = new ContactContainsAllKeywordsPredicate(argMultimap);
             break;
         case SearchCommand.OR_CONDITION:
-            filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+            personFilter = PREDICATE_SHOW_ALL_PERSONS;
             break;
         default:
-            filteredPersons.setPredicate(PREDICATE_SHOW_NO_PERSON);
+            personFilter = PREDICATE_SHOW_NO_PERSON;
         }
-
+        filteredArgsString = argsString;
     }
 
     @Override
@@ -177,49 +309,150 @@ public class AutocompleteManager implements Autocomplete {
 
 
     private List<String> autocompleteForName(String autocompleteString, String lastArgument) {
-        return filteredPersons.stream()
-                .filter(person -> startWithIgnoreCase(person.getName().fullName, lastArgument))
-                .limit(AUTOCOMPLETE_ENTRIES_LIMIT)
-                .map(person -> autocompleteString + PREFIX_NAME + person.getName().fullName)
-                .collect(Collectors.toList());
+        return autocompleteForField(SearchPrefixCommand.NAME, PREFIX_NAME, autocompleteString, lastArgument);
     }
 
     private List<String> autocompleteForAddress(String autocompleteString, String lastArgument) {
-        return filteredPersons.stream()
-                .filter(person -> startWithIgnoreCase(person.getAddress().value, lastArgument))
-                .limit(AUTOCOMPLETE_ENTRIES_LIMIT)
-                .map(person -> autocompleteString + PREFIX_ADDRESS + person.getAddress().value)
-                .collect(Collectors.toList());
+        return autocompleteForField(SearchPrefixCommand.ADDRESS, PREFIX_ADDRESS, autocompleteString, lastArgument);
     }
 
     private List<String> autocompleteForEmail(String autocompleteString, String lastArgument) {
-        return filteredPersons.stream()
-                .filter(person -> startWithIgnoreCase(person.getEmail().value, lastArgument))
-                .limit(AUTOCOMPLETE_ENTRIES_LIMIT)
-                .map(person -> autocompleteString + PREFIX_EMAIL + person.getEmail().value)
-                .collect(Collectors.toList());
+        return autocompleteForField(SearchPrefixCommand.EMAIL, PREFIX_EMAIL, autocompleteString, lastArgument);
     }
 
     private List<String> autocompleteForPhone(String autocompleteString, String lastArgument) {
-        return filteredPersons.stream()
-                .filter(person -> startWithIgnoreCase(person.getPhone().value, lastArgument))
-                .limit(AUTOCOMPLETE_ENTRIES_LIMIT)
-                .map(person -> autocompleteString + PREFIX_PHONE + person.getPhone().value)
-                .collect(Collectors.toList());
+        return autocompleteForField(SearchPrefixCommand.PHONE, PREFIX_PHONE, autocompleteString, lastArgument);
     }
 
     private List<String> autocompleteForTag(String autocompleteString, String lastArgument) {
-        return filteredPersons.stream()
-                .map(person -> person.getTags().stream()
-                        .filter(tag -> startWithIgnoreCase(tag.tagName, lastArgument))
-                        .map(tag -> autocompleteString + PREFIX_TAG + tag.tagName)
-                        .collect(Collectors.toList()))
-                .flatMap(Collection::stream)
-                .distinct()
-                .limit(AUTOCOMPLETE_ENTRIES_LIMIT)
+        return autocompleteForField(SearchPrefixCommand.TAG, PREFIX_TAG, autocompleteString, lastArgument);
+    }
+
+    /**
+     * Returns the autocomplete entries for the best ranked values of {@code field} that start with
+     * {@code lastArgument}, ignoring case, and are held by a person satisfying the person filter.
+     * The values are ranked from the first {@code RANKED_VALUES_LIMIT} of them in case-insensitive order, and those
+     * selected before, so a value the user often picks is suggested even if it is past the limit.
+     * If the user has only appended to the argument since the last time, and every value of the last argument was
+     * ranked, the values are narrowed down from those. Otherwise, they are looked up in the prefix index of the
+     * soConnect, so only the values that are ranked, and those not held by a person satisfying the filter, are
+     * looked at.
+     */
+    private List<String> autocompleteForField(SearchPrefixCommand field, Prefix prefix, String autocompleteString,
+                                              String lastArgument) {
+        if (personFilter == PREDICATE_SHOW_NO_PERSON) {
+            return new ArrayList<>();
+        }
+        String valuePrefix = lastArgument.trim();
+        long version = personsVersion.get();
+        List<String> values;
+        if (lastCandidates != null && lastCandidates.canNarrowTo(field, personFilter, valuePrefix, version)) {
+            values = lastCandidates.narrowTo(valuePrefix);
+        } else {
+            values = soConnect.findValuesWithPrefix(field, valuePrefix, personFilter, RANKED_VALUES_LIMIT);
+        }
+        lastCandidates = new Candidates(field, personFilter, valuePrefix, values, version);
+        ReadOnlySoConnect currentSoConnect = soConnect;
+        Predicate<Person> currentPersonFilter = personFilter;
+        List<String> candidates = withSelectedValues(field, valuePrefix, values,
+                value -> currentSoConnect.hasPersonWithValue(field, value, currentPersonFilter));
+        return ranker.rank(field, valuePrefix, candidates,
+                value -> currentSoConnect.countPersonsWithValue(field, value), AUTOCOMPLETE_ENTRIES_LIMIT)
+                .stream()
+                .map(value -> autocompleteString + prefix + value)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the best ranked names of the tags in the tag list that start with {@code argument}, ignoring case.
+     * The names are ranked from the first {@code RANKED_VALUES_LIMIT} of them in case-insensitive order, and those
+     * selected before, in the same way as the tags of the persons.
+     */
+    private List<String> autocompleteTagNames(String argument) {
+        String valuePrefix = argument.trim();
+        ReadOnlySoConnect currentSoConnect = soConnect;
+        List<String> candidates = withSelectedValues(SearchPrefixCommand.TAG, valuePrefix,
+                currentSoConnect.findTagNamesWithPrefix(valuePrefix, RANKED_VALUES_LIMIT),
+                value -> Tag.isValidTagName(value) && Tag.isValidLength(value)
+                        && currentSoConnect.hasTag(new Tag(value)));
+        return ranker.rank(SearchPrefixCommand.TAG, valuePrefix, candidates,
+                value -> currentSoConnect.countPersonsWithValue(SearchPrefixCommand.TAG, value),
+                AUTOCOMPLETE_ENTRIES_LIMIT);
+    }
+
+    /**
+     * Returns {@code values} with the values of {@code field} selected before that start with {@code valuePrefix},
+     * ignoring case, and are still available, added after them.
+     * The selected values are only looked for if {@code values} were cut off at {@code RANKED_VALUES_LIMIT}, since
+     * every value starting with {@code valuePrefix} is among them otherwise.
+     *
+     * @param isAvailable The predicate that a selected value must satisfy to be suggested.
+     */
+    private List<String> withSelectedValues(SearchPrefixCommand field, String valuePrefix, List<String> values,
+                                            Predicate<String> isAvailable) {
+        if (values.size() < RANKED_VALUES_LIMIT) {
+            return values;
+        }
+        Set<String> candidates = new LinkedHashSet<>(values);
+        ranker.findSelectedValues(field, valuePrefix).stream()
+                .filter(value -> !candidates.contains(value) && isAvailable.test(value))
+                .forEach(candidates::add);
+        return new ArrayList<>(candidates);
+    }
+
+    /**
+     * Returns the priorities that start with {@code argument}, ignoring case, from the highest to the lowest.
+     */
+    private List<String> autocompletePriorities(String argument) {
+        String valuePrefix = argument.trim();
+        return PRIORITIES.stream()
+                .filter(priority -> priority.regionMatches(true, 0, valuePrefix, 0, valuePrefix.length()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The values of a field that start with a prefix, found for a person filter while the persons were unchanged.
+     */
+    private static class Candidates {
+        private final SearchPrefixCommand field;
+        private final Predicate<Person> personFilter;
+        private final String valuePrefix;
+        private final List<String> values;
+        private final long personsVersion;
+
+        Candidates(SearchPrefixCommand field, Predicate<Person> personFilter, String valuePrefix,
+                   List<String> values, long personsVersion) {
+            this.field = field;
+            this.personFilter = personFilter;
+            this.valuePrefix = valuePrefix;
+            this.values = values;
+            this.personsVersion = personsVersion;
+        }
+
+        /**
+         * Returns true if the values starting with {@code newValuePrefix} are all among these values.
+         * That is only known if these values were not cut off at the limit, since values found for a longer prefix
+         * may otherwise be past the last of them.
+         */
+        boolean canNarrowTo(SearchPrefixCommand newField, Predicate<Person> newPersonFilter, String newValuePrefix,
+                            long newPersonsVersion) {
+            return field == newField
+                    && personFilter == newPersonFilter
+                    && personsVersion == newPersonsVersion
+                    && values.size() < RANKED_VALUES_LIMIT
+                    && newValuePrefix.regionMatches(true, 0, valuePrefix, 0, valuePrefix.length());
+        }
+
+        /**
+         * Returns these values that start with {@code newValuePrefix}, ignoring case, in the same order.
+         */
+        List<String> narrowTo(String newValuePrefix) {
+            return values.stream()
+                    .filter(value -> value.regionMatches(true, 0, newValuePrefix, 0, newValuePrefix.length()))
+                    .collect(Collectors.toList());
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
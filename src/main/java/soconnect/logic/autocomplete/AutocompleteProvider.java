@@ -0,0 +1,19 @@
+package soconnect.logic.autocomplete;
+
+import java.util.List;
+
+/**
+ * Provides the autocomplete entries of the user input for a command.
+ * Providers are registered in the {@code AutocompleteManager} under the command words they complete.
+ */
+@FunctionalInterface
+public interface AutocompleteProvider {
+    /**
+     * Generates a list of autocomplete entries for the {@code arguments} of the command.
+     *
+     * @param commandWords The command words of the user input, such as {@code "tag add"}.
+     * @param arguments The rest of the user input after the command words.
+     * @return A list of autocomplete entries, each of which is a complete user input.
+     */
+    List<String> getAutocompleteEntries(String commandWords, String arguments);
+}
@@ -0,0 +1,132 @@
+package soconnect.logic.autocomplete;
+
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
+
+/**
+ * Ranks the values suggested by autocomplete, keeping only the best few in a bounded heap.
+ * Values are ranked by how well they match the argument, how often and how recently they were selected, and how many
+ * persons hold them, in that order. Values that rank equally keep the order they are given in.
+ */
+public class AutocompleteRanker {
+
+    private static final Selection NEVER_SELECTED = new Selection();
+
+    private final Map<SearchPrefixCommand, Map<String, Selection>> selections =
+            new EnumMap<>(SearchPrefixCommand.class);
+
+    // Incremented on every selection, so that later selections are more recent
+    private long selectionTime = 0;
+
+    /**
+     * Records that the user selected {@code value} for {@code field}.
+     *
+     * @param field The searchable field.
+     * @param value The selected value.
+     */
+    public void recordSelection(SearchPrefixCommand field, String value) {
+        requireAllNonNull(field, value);
+        Selection selection = selections.computeIfAbsent(field, unused -> new HashMap<>())
+                .computeIfAbsent(value, unused -> new Selection());
+        selection.count++;
+        selection.lastTime = ++selectionTime;
+    }
+
+    /**
+     * Returns the values selected for {@code field} that start with {@code prefix}, ignoring case, in no order.
+     * These are the values that may rank above any value never selected, so they can be added to the values to rank
+     * when only some of the values starting with {@code prefix} are ranked.
+     *
+     * @param field The searchable field.
+     * @param prefix The prefix of the values.
+     */
+    public List<String> findSelectedValues(SearchPrefixCommand field, String prefix) {
+        requireAllNonNull(field, prefix);
+        List<String> selectedValues = new ArrayList<>();
+        for (String value : selections.getOrDefault(field, Collections.emptyMap()).keySet()) {
+            if (value.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                selectedValues.add(value);
+            }
+        }
+        return selectedValues;
+    }
+
+    /**
+     * Returns the best {@code limit} of {@code values}, from the best to the worst.
+     * Only {@code limit} values are kept while ranking, however many values are given.
+     *
+     * @param field The searchable field of the values.
+     * @param argument The argument that the values are suggested for.
+     * @param values The values to rank, each of which starts with {@code argument}, ignoring case.
+     * @param holderCount The function that gives the number of persons holding a value.
+     * @param limit The maximum number of values to return.
+     */
+    public List<String> rank(SearchPrefixCommand field, String argument, Iterable<String> values,
+                             ToIntFunction<String> holderCount, int limit) {
+        requireAllNonNull(field, argument, values, holderCount);
+        Map<String, Selection> fieldSelections = selections.getOrDefault(field, Collections.emptyMap());
+        // The worst of the kept values is at the head, so that it is the one dropped for a better value
+        PriorityQueue<RankedValue> bestValues = new PriorityQueue<>(limit + 1, RankedValue.BEST_FIRST.reversed());
+        int order = 0;
+        for (String value : values) {
+            Selection selection = fieldSelections.getOrDefault(value, NEVER_SELECTED);
+            bestValues.add(new RankedValue(value, value.equalsIgnoreCase(argument), selection,
+                    holderCount.applyAsInt(value), order++));
+            if (bestValues.size() > limit) {
+                bestValues.poll();
+            }
+        }
+
+        List<RankedValue> rankedValues = new ArrayList<>(bestValues);
+        rankedValues.sort(RankedValue.BEST_FIRST);
+        List<String> rankedStrings = new ArrayList<>(rankedValues.size());
+        rankedValues.forEach(rankedValue -> rankedStrings.add(rankedValue.value));
+        return rankedStrings;
+    }
+
+    /**
+     * The number of times a value was selected, and when it was last selected.
+     */
+    private static class Selection {
+        private int count = 0;
+        private long lastTime = 0;
+    }
+
+    /**
+     * A value with the measures it is ranked by.
+     */
+    private static class RankedValue {
+        private static final Comparator<RankedValue> BEST_FIRST =
+                Comparator.comparing((RankedValue rankedValue) -> !rankedValue.isExactMatch)
+                        .thenComparingInt(rankedValue -> -rankedValue.selectionCount)
+                        .thenComparingLong(rankedValue -> -rankedValue.lastSelectionTime)
+                        .thenComparingInt(rankedValue -> -rankedValue.holderCount)
+                        .thenComparingInt(rankedValue -> rankedValue.order);
+
+        private final String value;
+        private final boolean isExactMatch;
+        private final int selectionCount;
+        private final long lastSelectionTime;
+        private final int holderCount;
+        private final int order;
+
+        RankedValue(String value, boolean isExactMatch, Selection selection, int holderCount, int order) {
+            this.value = value;
+            this.isExactMatch = isExactMatch;
+            this.selectionCount = selection.count;
+            this.lastSelectionTime = selection.lastTime;
+            this.holderCount = holderCount;
+            this.order = order;
+        }
+    }
+}
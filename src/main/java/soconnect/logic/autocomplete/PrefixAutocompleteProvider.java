@@ -0,0 +1,71 @@
+package soconnect.logic.autocomplete;
+
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+import static soconnect.logic.parser.ArgumentTokenizer.PrefixArgument;
+import static soconnect.logic.parser.ArgumentTokenizer.tokenizeToList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import soconnect.logic.parser.Prefix;
+
+/**
+ * Provides the autocomplete entries of a command by completing the argument of its last prefix.
+ * The values of each prefix are found by a value finder, which should look them up in an index rather than scan
+ * the persons, tags or todos.
+ */
+public class PrefixAutocompleteProvider implements AutocompleteProvider {
+
+    private final Prefix[] prefixes;
+    private final Map<Prefix, Function<String, List<String>>> valueFinders = new HashMap<>();
+
+    /**
+     * Constructs a {@code PrefixAutocompleteProvider} for a command with the given {@code prefixes}.
+     *
+     * @param prefixes All the prefixes of the command, used to tokenize its arguments.
+     */
+    public PrefixAutocompleteProvider(Prefix... prefixes) {
+        requireAllNonNull((Object[]) prefixes);
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Completes the arguments of {@code prefix} with the values found by {@code valueFinder}.
+     * The value finder is given the argument typed so far and returns the values to suggest, from the best to the
+     * worst.
+     *
+     * @param prefix One of the prefixes of the command.
+     * @param valueFinder The function that finds the values to suggest.
+     * @return This provider, so that the values of several prefixes can be completed.
+     */
+    public PrefixAutocompleteProvider withValues(Prefix prefix, Function<String, List<String>> valueFinder) {
+        requireAllNonNull(prefix, valueFinder);
+        valueFinders.put(prefix, valueFinder);
+        return this;
+    }
+
+    @Override
+    public List<String> getAutocompleteEntries(String commandWords, String arguments) {
+        requireAllNonNull(commandWords, arguments);
+        List<PrefixArgument> argsList = tokenizeToList(arguments, prefixes);
+        assert argsList.size() >= 1;
+        PrefixArgument lastPrefixArgument = argsList.get(argsList.size() - 1);
+
+        Prefix lastPrefix = lastPrefixArgument.getPrefix();
+        String lastArgument = lastPrefixArgument.getArgument();
+        Function<String, List<String>> valueFinder = valueFinders.get(lastPrefix);
+        if (valueFinder == null || lastArgument.isEmpty() || !arguments.endsWith(lastArgument)) {
+            return new ArrayList<>();
+        }
+
+        String autocompleteString = commandWords + arguments.substring(0, arguments.length()
+                - lastPrefix.getPrefix().length() - lastArgument.length()) + lastPrefix;
+        return valueFinder.apply(lastArgument).stream()
+                .map(value -> autocompleteString + value)
+                .collect(Collectors.toList());
+    }
+}
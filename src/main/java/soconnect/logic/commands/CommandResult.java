@@ -3,6 +3,8 @@ package soconnect.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the result of a command execution.
@@ -21,6 +23,11 @@ public class CommandResult {
      */
     private final boolean exit;
 
+    /**
+     * The feedback to be shown once the work the command left running in the background ends, or null if it left none.
+     */
+    private final CompletableFuture<String> laterFeedbackToUser;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -28,6 +35,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.laterFeedbackToUser = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, to be replaced by
+     * {@code laterFeedbackToUser} once the work the command left running in the background ends.
+     */
+    public CommandResult(String feedbackToUser, CompletableFuture<String> laterFeedbackToUser) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.laterFeedbackToUser = requireNonNull(laterFeedbackToUser);
     }
 
     /**
@@ -50,6 +69,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletableFuture<String>> getLaterFeedbackToUser() {
+        return Optional.ofNullable(laterFeedbackToUser);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -64,12 +87,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(laterFeedbackToUser, otherCommandResult.laterFeedbackToUser);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, laterFeedbackToUser);
     }
 
 }
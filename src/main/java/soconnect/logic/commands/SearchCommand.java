@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static soconnect.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -32,6 +35,10 @@ public class SearchCommand extends Command {
             + COMMAND_WORD + " " + AND_CONDITION + " n/John a/NUS, "
             + COMMAND_WORD + " " + OR_CONDITION + " p/12345678 e/betsy@nus.edu";
 
+    public static final String MESSAGE_SEARCH_STARTED =
+            "Searching %1$d contacts. The list will show the matches once the search is done.";
+    public static final String MESSAGE_SEARCH_FAILED = "The search could not be completed. Please try again.";
+
     private static Logger logger = Logger.getLogger("search");
     private final Predicate<Person> predicate;
     private final Predicate<Person> alternativePredicate;
@@ -43,7 +50,7 @@ public class SearchCommand extends Command {
     public SearchCommand(Predicate<Person> predicate, Predicate<Person> alternativePredicate,
                          Predicate<Person> leastAccuratePredicate) {
         logger.log(Level.INFO, "going to start processing");
-        requireAllNonNull(predicate, alternativePredicate);
+        requireAllNonNull(predicate, alternativePredicate, leastAccuratePredicate);
         this.predicate = predicate;
         this.alternativePredicate = alternativePredicate;
         this.leastAccuratePredicate = leastAccuratePredicate;
@@ -52,19 +59,23 @@ public class SearchCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        // The less accurate predicates are only used when no one matches the more accurate ones
+        List<Predicate<Person>> tiers = Arrays.asList(predicate, alternativePredicate, leastAccuratePredicate);
+        CompletableFuture<Void> search;
         try {
-            model.updateFilteredPersonList(predicate);
+            search = model.updateFilteredPersonListByTiers(tiers);
         } catch (NullPointerException | IllegalArgumentException e) {
             logger.log(Level.WARNING, "processing error", e);
             throw new CommandException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
         }
-        if (model.isFilteredPersonListEmpty()) {
-            model.updateFilteredPersonList(alternativePredicate);
-        }
-        if (model.isFilteredPersonListEmpty()) {
-            model.updateFilteredPersonList(leastAccuratePredicate);
-        }
         logger.log(Level.INFO, "end of processing");
+        if (!search.isDone()) {
+            int personCount = model.getSoConnect().getPersonList().size();
+            CompletableFuture<String> searchFeedback = search.handle((unused, error) -> error == null
+                    ? String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size())
+                    : MESSAGE_SEARCH_FAILED);
+            return new CommandResult(String.format(MESSAGE_SEARCH_STARTED, personCount), searchFeedback);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -90,4 +91,9 @@ public class ArgumentMultimap {
                 && getAllPrefixes().equals(((ArgumentMultimap) other).getAllPrefixes())
                 && getAllValues().equals(((ArgumentMultimap) other).getAllValues())); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getAllPrefixes(), getAllValues());
+    }
 }
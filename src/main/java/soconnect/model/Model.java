@@ -3,6 +3,7 @@ package soconnect.model;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.beans.property.SimpleStringProperty;
@@ -222,6 +223,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons matching the most accurate of the
+     * {@code tiers} of predicates that any person matches.
+     * The persons are scanned once, and the filter is only updated with the final result.
+     * From the parallel search threshold of the user prefs, the persons are scanned in the background and the filter
+     * is updated later, unless the filter is updated again first.
+     *
+     * @param tiers The predicates of each tier, from the most to the least accurate.
+     * @return A future that completes once the filter is updated, or once the search is superseded, and completes
+     *     exceptionally if the search in the background fails.
+     * @throws NullPointerException if {@code tiers} or any of its predicates is null.
+     * @throws IllegalArgumentException if a keyword of the {@code tiers} is invalid.
+     */
+    CompletableFuture<Void> updateFilteredPersonListByTiers(List<Predicate<Person>> tiers);
+
     /**
      * Returns an unmodifiable view of the filtered {@code TodoList}.
      */
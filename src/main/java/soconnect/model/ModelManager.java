@@ -6,15 +6,21 @@ import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import soconnect.commons.core.GuiSettings;
 import soconnect.commons.core.LogsCenter;
 import soconnect.model.person.Person;
+import soconnect.model.person.search.IndexedPredicate;
+import soconnect.model.person.search.TieredSearch;
 import soconnect.model.tag.Tag;
 import soconnect.model.todo.Todo;
 import soconnect.ui.TodoListPanel;
@@ -31,12 +37,29 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Todo> filteredTodos;
     private final SimpleStringProperty todoListHeader;
+    private final Executor searchResultExecutor;
+
+    // Count the updates of the person filter and the changes of the persons, to tell if a background search is stale
+    private long personFilterUpdateCount = 0;
+    private long personListChangeCount = 0;
 
     /**
      * Initializes a ModelManager with the given {@code soConnect}, {@code todoList}, and {@code userPrefs}.
+     * The results of background searches are applied on the thread that completes them.
      */
     public ModelManager(ReadOnlySoConnect soConnect, ReadOnlyTodoList todoList, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(soConnect, todoList, userPrefs);
+        this(soConnect, todoList, userPrefs, Runnable::run);
+    }
+
+    /**
+     * Initializes a ModelManager with the given {@code soConnect}, {@code todoList}, and {@code userPrefs}.
+     *
+     * @param searchResultExecutor Applies the results of background searches on the thread that uses the model,
+     *     such as {@code Platform::runLater}.
+     */
+    public ModelManager(ReadOnlySoConnect soConnect, ReadOnlyTodoList todoList, ReadOnlyUserPrefs userPrefs,
+            Executor searchResultExecutor) {
+        requireAllNonNull(soConnect, todoList, userPrefs, searchResultExecutor);
 
         logger.fine("Initializing with SoConnect: " + soConnect + ", TodoList: " + ", and user prefs " + userPrefs);
 
@@ -46,6 +69,8 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(this.soConnect.getPersonList());
         filteredTodos = new FilteredList<>(this.todoList.getTodoList());
         this.todoListHeader = new SimpleStringProperty("");
+        this.searchResultExecutor = searchResultExecutor;
+        this.soConnect.getPersonList().addListener((ListChangeListener<Person>) change -> personListChangeCount++);
     }
 
     public ModelManager() {
@@ -172,7 +197,8 @@ public class ModelManager implements Model {
     @Override
     public void editTag(Tag oldTag, Tag newTag) {
         soConnect.editTag(oldTag, newTag);
-        todoList.editTag(oldTag, newTag);
+        // The todos hold the tag held by the tag list, which has an ordinal, so that their tag sets stay bitsets
+        todoList.editTag(oldTag, soConnect.getTagFromList(newTag));
     }
 
     @Override
@@ -246,14 +272,27 @@ public class ModelManager implements Model {
 
     @Override
     public void addTodo(Todo todo) {
-        todoList.addTodo(todo);
+        todoList.addTodo(internTags(todo));
     }
 
     @Override
     public void setTodo(Todo target, Todo editedTodo) {
         requireAllNonNull(target, editedTodo);
 
-        todoList.setTodo(target, editedTodo);
+        todoList.setTodo(target, internTags(editedTodo));
+    }
+
+    /**
+     * Returns {@code todo} with each of its tags replaced by the instance in the tag list of SoConnect, so that the
+     * todos and persons holding a tag share one instance of it.
+     */
+    private Todo internTags(Todo todo) {
+        Set<Tag> todoTags = todo.getTags();
+        Set<Tag> internedTags = soConnect.internTags(todoTags);
+        if (internedTags == todoTags) {
+            return todo;
+        }
+        return new Todo(todo.getDescription(), todo.getDate(), todo.getPriority(), internedTags);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -275,9 +314,88 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        personFilterUpdateCount++;
+        if (predicate instanceof IndexedPredicate) {
+            filteredPersons.setPredicate(soConnect.narrowWithSearchIndex((IndexedPredicate) predicate));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public CompletableFuture<Void> updateFilteredPersonListByTiers(List<Predicate<Person>> tiers) {
+        requireAllNonNull(tiers);
+        for (Predicate<Person> tier : tiers) {
+            if (tier instanceof IndexedPredicate) {
+                // Checked here, as a search in the background could only report an invalid keyword once it ends
+                ((IndexedPredicate) tier).checkKeywords();
+            }
+        }
+        long filterUpdate = ++personFilterUpdateCount;
+        List<Predicate<Person>> narrowedTiers = new ArrayList<>(tiers.size());
+        for (Predicate<Person> tier : tiers) {
+            narrowedTiers.add(tier instanceof IndexedPredicate
+                    ? soConnect.narrowWithSearchIndex((IndexedPredicate) tier)
+                    : tier);
+        }
+        if (soConnect.getPersonList().size() >= userPrefs.getParallelSearchThreshold()) {
+            return searchInBackground(tiers, narrowedTiers, filterUpdate);
+        }
+        applySearchResult(new TieredSearch(narrowedTiers).search(soConnect.getPersonList()));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Searches a copy of the persons in the background, then applies the result through the search result executor
+     * unless the filter was updated again in the meantime.
+     * The candidates of the search index are found here, so that the search does not read the index while it changes.
+     * If the persons changed during the search, the result may be out of date, so the search is run again.
+     *
+     * @param tiers The predicates of each tier.
+     * @param narrowedTiers The predicates of each tier narrowed with the search index, which are tested on the
+     *     persons added or edited after the search.
+     * @param filterUpdate The number of the filter update that requested the search.
+     */
+    private CompletableFuture<Void> searchInBackground(List<Predicate<Person>> tiers,
+                                                       List<Predicate<Person>> narrowedTiers, long filterUpdate) {
+        List<Predicate<Person>> scanTiers = new ArrayList<>(tiers.size());
+        for (Predicate<Person> tier : tiers) {
+            scanTiers.add(tier instanceof IndexedPredicate
+                    ? soConnect.narrowToCurrentCandidates((IndexedPredicate) tier)
+                    : tier);
+        }
+        TieredSearch tieredSearch = new TieredSearch(narrowedTiers, scanTiers);
+        List<Person> persons = new ArrayList<>(soConnect.getPersonList());
+        long personListChange = personListChangeCount;
+        CompletableFuture<Void> applied = new CompletableFuture<>();
+        tieredSearch.searchInBackground(persons).whenComplete((result, error) -> searchResultExecutor.execute(() -> {
+            if (filterUpdate != personFilterUpdateCount) {
+                applied.complete(null);
+            } else if (personListChange != personListChangeCount) {
+                searchInBackground(tiers, narrowedTiers, filterUpdate).whenComplete((unused, rerunError) -> {
+                    if (rerunError != null) {
+                        applied.completeExceptionally(rerunError);
+                    } else {
+                        applied.complete(null);
+                    }
+                });
+            } else if (error != null) {
+                logger.warning("Search failed: " + error);
+                applied.completeExceptionally(error);
+            } else {
+                applySearchResult(result);
+                applied.complete(null);
+            }
+        }));
+        return applied;
+    }
+
+    private void applySearchResult(TieredSearch.Result result) {
+        logger.fine("Search matched " + result.size() + " persons at tier " + result.getMatchedTier());
+        filteredPersons.setPredicate(result);
+        result.markApplied();
+    }
+
     //=========== Filtered TodoList Accessors =============================================================
 
     /**
@@ -1,25 +1,17 @@
 package soconnect.model;
 
-import javafx.collections.ObservableList;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+
+import java.util.List;
+import java.util.function.Predicate;
+
 import soconnect.model.person.Person;
 import soconnect.model.tag.Tag;
 
 /**
  * Unmodifiable view of an SoConnect.
  */
-public interface ReadOnlySoConnect {
-
-    /**
-     * Returns an unmodifiable view of the persons list.
-     * This list will not contain any duplicate persons.
-     */
-    ObservableList<Person> getPersonList();
-
-    /**
-     * Returns an unmodifiable view of the tags list.
-     * This list will not contain any duplicate tags.
-     */
-    ObservableList<Tag> getTagList();
+public interface ReadOnlySoConnect extends ReadOnlySoConnectLists {
 
     /**
      * Adds the tag to the tagList.
@@ -51,4 +43,49 @@ public interface ReadOnlySoConnect {
      * @return The integer of where the tag is in the tagList.
      */
     int getTagReference(Tag tag);
+
+    /**
+     * Returns up to {@code limit} values of {@code field} that start with {@code prefix}, ignoring case, and are held
+     * by at least one person accepted by {@code holderFilter}, in case-insensitive order.
+     * Can be called from a thread other than the one changing the persons.
+     *
+     * @param field The searchable field.
+     * @param prefix The prefix of the values.
+     * @param holderFilter The predicate that a holder of a value must satisfy.
+     * @param limit The maximum number of values to return.
+     * @return The values that start with {@code prefix}.
+     */
+    List<String> findValuesWithPrefix(SearchPrefixCommand field, String prefix, Predicate<Person> holderFilter,
+                                      int limit);
+
+    /**
+     * Returns true if {@code value} of {@code field} is held by at least one person accepted by {@code holderFilter}.
+     * Can be called from a thread other than the one changing the persons.
+     *
+     * @param field The searchable field.
+     * @param value The value of the field.
+     * @param holderFilter The predicate that a holder of the value must satisfy.
+     * @return True if such a person holds the value.
+     */
+    boolean hasPersonWithValue(SearchPrefixCommand field, String value, Predicate<Person> holderFilter);
+
+    /**
+     * Returns the number of persons holding {@code value} in {@code field}, such as the number of persons holding
+     * a tag. Can be called from a thread other than the one changing the persons.
+     *
+     * @param field The searchable field.
+     * @param value The value of the field.
+     * @return The number of persons holding the value.
+     */
+    int countPersonsWithValue(SearchPrefixCommand field, String value);
+
+    /**
+     * Returns the names of up to {@code limit} tags in the tag list that start with {@code prefix}, ignoring case,
+     * in case-insensitive order. Can be called from a thread other than the one changing the tags.
+     *
+     * @param prefix The prefix of the tag names.
+     * @param limit The maximum number of tag names to return.
+     * @return The names of the tags that start with {@code prefix}.
+     */
+    List<String> findTagNamesWithPrefix(String prefix, int limit);
 }
@@ -15,4 +15,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getTodoListFilePath();
 
+    /**
+     * Returns the number of contacts from which searches are run in parallel.
+     */
+    int getParallelSearchThreshold();
+
 }
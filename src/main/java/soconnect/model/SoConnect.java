@@ -1,14 +1,19 @@
 package soconnect.model;
 
 import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import soconnect.model.person.Person;
 import soconnect.model.person.UniquePersonList;
+import soconnect.model.person.search.IndexedPredicate;
 import soconnect.model.tag.Tag;
 import soconnect.model.tag.UniqueTagList;
 import soconnect.model.todo.Todo;
@@ -47,11 +52,15 @@ public class SoConnect implements ReadOnlySoConnect {
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the person list with {@code persons}.
+     * Replaces the contents of the person list with {@code persons}, with their tags interned.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        List<Person> internedPersons = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            internedPersons.add(internTags(person));
+        }
+        this.persons.setPersons(internedPersons);
     }
 
     /**
@@ -67,8 +76,9 @@ public class SoConnect implements ReadOnlySoConnect {
     public void resetData(ReadOnlySoConnect newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        // The tags are set first, so that the tags of the persons are interned against them
         setTags(newData.getTagList());
+        setPersons(newData.getPersonList());
     }
 
     /// sorting operations
@@ -117,7 +127,8 @@ public class SoConnect implements ReadOnlySoConnect {
      * @param isReverse Whether the sorting should be in reverse order.
      */
     public void sortByTag(Tag tag, Boolean isReverse) {
-        persons.sortByTag(tag, isReverse);
+        // The persons hold the instances in the tag list, so the interned tag is tested by its bit
+        persons.sortByTag(tags.intern(tag), isReverse);
     }
 
     public TreeSet<String> getUniqueNames() {
@@ -157,11 +168,11 @@ public class SoConnect implements ReadOnlySoConnect {
     }
 
     /**
-     * Adds a person to the SoConnect.
+     * Adds a person to the SoConnect, with its tags interned.
      * The person must not already exist in the SoConnect.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        persons.add(internTags(p));
     }
 
     /**
@@ -172,7 +183,7 @@ public class SoConnect implements ReadOnlySoConnect {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        persons.setPerson(target, internTags(editedPerson));
     }
 
     /**
@@ -183,6 +194,19 @@ public class SoConnect implements ReadOnlySoConnect {
         persons.remove(key);
     }
 
+    /**
+     * Returns {@code person} with each of its tags replaced by the instance in the tag list, so that the persons
+     * holding a tag share one instance of it. Returns {@code person} itself if its tags already are those instances.
+     */
+    private Person internTags(Person person) {
+        Set<Tag> personTags = person.getTags();
+        Set<Tag> internedTags = tags.internAll(personTags);
+        if (internedTags == personTags) {
+            return person;
+        }
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(), internedTags);
+    }
+
     //// tag-level operations
 
     /**
@@ -203,7 +227,7 @@ public class SoConnect implements ReadOnlySoConnect {
      */
     public void editTag(Tag oldTag, Tag newTag) {
         tags.editTag(oldTag, newTag);
-        persons.changeRelevantPersonTag(oldTag, newTag);
+        persons.changeRelevantPersonTag(oldTag, tags.intern(newTag));
     }
 
     /**
@@ -237,6 +261,65 @@ public class SoConnect implements ReadOnlySoConnect {
         return tags.getTagReference(tag);
     }
 
+    /**
+     * Returns {@code tags} with each tag replaced by its instance in the tag list, or {@code tags} itself if all of
+     * them already are those instances.
+     */
+    public Set<Tag> internTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        return this.tags.internAll(tags);
+    }
+
+    /**
+     * Returns a {@code Predicate} equivalent to {@code predicate} that only tests the persons found as candidates in
+     * the search index.
+     *
+     * @param predicate The predicate to be narrowed down.
+     * @return The narrowed predicate.
+     */
+    public Predicate<Person> narrowWithSearchIndex(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.narrowWithSearchIndex(predicate);
+    }
+
+    /**
+     * Returns a {@code Predicate} equivalent to {@code predicate} for the persons in SoConnect now, that only tests
+     * the persons found as candidates in the search index now.
+     * It does not read the search index again, so it can be tested from other threads while the persons change.
+     *
+     * @param predicate The predicate to be narrowed down.
+     * @return The narrowed predicate.
+     */
+    public Predicate<Person> narrowToCurrentCandidates(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.narrowToCurrentCandidates(predicate);
+    }
+
+    @Override
+    public List<String> findValuesWithPrefix(SearchPrefixCommand field, String prefix,
+                                             Predicate<Person> holderFilter, int limit) {
+        requireAllNonNull(field, prefix, holderFilter);
+        return persons.findValuesWithPrefix(field, prefix, holderFilter, limit);
+    }
+
+    @Override
+    public boolean hasPersonWithValue(SearchPrefixCommand field, String value, Predicate<Person> holderFilter) {
+        requireAllNonNull(field, value, holderFilter);
+        return persons.hasPersonWithValue(field, value, holderFilter);
+    }
+
+    @Override
+    public int countPersonsWithValue(SearchPrefixCommand field, String value) {
+        requireAllNonNull(field, value);
+        return persons.countPersonsWithValue(field, value);
+    }
+
+    @Override
+    public List<String> findTagNamesWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return tags.findTagNamesWithPrefix(prefix, limit);
+    }
+
     //// util methods
 
     @Override
@@ -13,9 +13,12 @@ import soconnect.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_SEARCH_THRESHOLD = 100_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path soConnectFilePath = Paths.get("data" , "soconnect.json");
     private Path todoListFilePath = Paths.get("data" , "todolist.json");
+    private int parallelSearchThreshold = DEFAULT_PARALLEL_SEARCH_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setSoConnectFilePath(newUserPrefs.getSoConnectFilePath());
         setTodoListFilePath(newUserPrefs.getTodoListFilePath());
+        setParallelSearchThreshold(newUserPrefs.getParallelSearchThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -75,6 +79,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.todoListFilePath = todoListFilePath;
     }
 
+    public int getParallelSearchThreshold() {
+        return parallelSearchThreshold;
+    }
+
+    /**
+     * Sets the number of contacts from which searches are run in parallel.
+     */
+    public void setParallelSearchThreshold(int parallelSearchThreshold) {
+        this.parallelSearchThreshold = parallelSearchThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -87,12 +102,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && soConnectFilePath.equals(o.soConnectFilePath);
+                && soConnectFilePath.equals(o.soConnectFilePath)
+                && parallelSearchThreshold == o.parallelSearchThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, soConnectFilePath);
+        return Objects.hash(guiSettings, soConnectFilePath, parallelSearchThreshold);
     }
 
     @Override
@@ -3,9 +3,16 @@ package soconnect.model.person;
 import static java.util.Objects.requireNonNull;
 import static soconnect.commons.util.AppUtil.checkArgument;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import soconnect.commons.util.Interner;
+
 /**
  * Represents a Person's address in the SoConnect.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}.
+ * Contacts of the same household or office often share an address, so the storage shares one instance of each
+ * address value among the contacts that it loads.
  */
 public class Address {
 
@@ -15,6 +22,7 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
     public static final String MESSAGE_CONSTRAINTS = "Addresses can take any values, and it should not be blank";
+
     public final String value;
 
     /**
@@ -28,6 +36,14 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns a report of how the values of {@code addresses} currently share their instances and the memory saved.
+     */
+    public static String getFootprintReport(Collection<Address> addresses) {
+        return Interner.getSharingReport(addresses.stream().map(address -> address.value)
+                .collect(Collectors.toList()), Interner::estimateStringSize);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
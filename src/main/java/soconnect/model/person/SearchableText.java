@@ -0,0 +1,165 @@
+package soconnect.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helper functions for searching the text of a searchable field of a {@code Person}, ignoring case.
+ * The text is the value of the field as the person holds it: the words are found and compared in place, without
+ * normalising or copying the text, so testing a person allocates nothing and the person holds nothing for searching
+ * in addition to the value of each field.
+ */
+public class SearchableText {
+
+    /**
+     * The character mask of characters that have no bit in a mask, i.e. other than the letters A to Z and digits.
+     */
+    public static final long NO_CHARACTER_MASK = -1L;
+
+    private static final int DIGITS_OFFSET = 'Z' - 'A' + 1;
+
+    /**
+     * Returns a mask with one bit set for each of the first {@code count} characters of {@code upperCaseCharacters},
+     * or {@code NO_CHARACTER_MASK} if any of them is not a letter from A to Z or a digit.
+     *
+     * @param upperCaseCharacters Cannot be null, must be upper-cased.
+     * @param count The number of characters to include, from the start of {@code upperCaseCharacters}.
+     */
+    public static long toCharacterMask(String upperCaseCharacters, int count) {
+        long mask = 0;
+        for (int i = 0; i < count; i++) {
+            long bit = toCharacterBit(upperCaseCharacters.charAt(i));
+            if (bit == 0) {
+                return NO_CHARACTER_MASK;
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the upper-cased words of {@code text}, split on whitespace.
+     * The words are created on each call, as they are only needed when a person is indexed.
+     */
+    public static List<String> getWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (int start = findWordStart(text, 0); start < text.length(); ) {
+            int end = findWordEnd(text, start);
+            words.add(text.substring(start, end).toUpperCase());
+            start = findWordStart(text, end);
+        }
+        return Collections.unmodifiableList(words);
+    }
+
+    /**
+     * Returns true if every one of the {@code upperCaseKeywords} is a word of {@code text}.
+     *   <br>examples:<pre>
+     *       containsWords("ABc def", {"ABC"}) == true
+     *       containsWords("ABc def", {"DEF", "ABC"}) == true
+     *       containsWords("ABc def", {"AB"}) == false //not a full word match
+     *       </pre>
+     *
+     * @param upperCaseKeywords Cannot be null, must be upper-cased single words.
+     */
+    public static boolean containsWords(String text, String[] upperCaseKeywords) {
+        for (String keyword : upperCaseKeywords) {
+            if (!containsWord(text, keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if each of the first {@code count} characters of {@code upperCaseCharacters} occurs in
+     * {@code text}, regardless of order.
+     *
+     * @param upperCaseCharacters Cannot be null, must be upper-cased.
+     * @param count The number of characters to look for, from the start of {@code upperCaseCharacters}.
+     */
+    public static boolean containsCharacters(String text, String upperCaseCharacters, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!containsCharacter(text, upperCaseCharacters.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if every character in {@code characterMask} occurs in {@code text}.
+     * Equivalent to {@link #containsCharacters(String, String, int)} for the characters the mask was made from, but
+     * reads {@code text} once for all of them.
+     *
+     * @param characterMask A mask from {@link #toCharacterMask(String, int)}, other than {@code NO_CHARACTER_MASK}.
+     */
+    public static boolean containsCharacters(String text, long characterMask) {
+        long missing = characterMask;
+        for (int i = 0; i < text.length() && missing != 0; i++) {
+            missing &= ~toCharacterBit(Character.toUpperCase(text.charAt(i)));
+        }
+        return missing == 0;
+    }
+
+    private static boolean containsCharacter(String text, char upperCaseCharacter) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.toUpperCase(text.charAt(i)) == upperCaseCharacter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long toCharacterBit(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return 1L << (c - 'A');
+        }
+        if (c >= '0' && c <= '9') {
+            return 1L << (DIGITS_OFFSET + c - '0');
+        }
+        return 0;
+    }
+
+    private static boolean containsWord(String text, String upperCaseKeyword) {
+        for (int start = findWordStart(text, 0); start < text.length(); ) {
+            int end = findWordEnd(text, start);
+            int length = end - start;
+            if (length == upperCaseKeyword.length()
+                    && text.regionMatches(true, start, upperCaseKeyword, 0, length)) {
+                return true;
+            }
+            start = findWordStart(text, end);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the end of the word of {@code text} starting at {@code start}, which is not whitespace.
+     */
+    private static int findWordEnd(String text, int start) {
+        int end = start + 1;
+        while (end < text.length() && !isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the start of the first word of {@code text} at or after {@code index}, or the length of {@code text} if
+     * there is none.
+     */
+    private static int findWordStart(String text, int index) {
+        while (index < text.length() && isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
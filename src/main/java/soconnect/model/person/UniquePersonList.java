@@ -2,13 +2,18 @@ package soconnect.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
@@ -17,7 +22,11 @@ import javafx.collections.transformation.SortedList;
 import soconnect.commons.util.CollectionUtil;
 import soconnect.model.person.exceptions.DuplicatePersonException;
 import soconnect.model.person.exceptions.PersonNotFoundException;
+import soconnect.model.person.search.IndexedPredicate;
+import soconnect.model.person.search.PrefixIndex;
+import soconnect.model.person.search.SearchIndex;
 import soconnect.model.tag.Tag;
+import soconnect.model.tag.TagIndex;
 
 
 /**
@@ -27,6 +36,14 @@ import soconnect.model.tag.Tag;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) to
  * ensure that the person with exactly the same fields will be removed.
  *
+ * Since the identity of a person is its {@code Name}, a name-keyed index is kept alongside the backing list so that
+ * identity checks do not need to scan every person. The index also records the position of each person in the backing
+ * list, so that a person is edited or removed without searching the list for it. A removal moves the later persons
+ * forward without recording their positions again, so a recorded position is at or after the actual one, and is
+ * corrected when it is next needed by stepping back over the persons removed before it.
+ * The indexes are updated before the backing list, so that listeners of the list always see indexes that are
+ * consistent with it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -36,13 +53,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Slot> nameIndex = new HashMap<>();
+    private final TagIndex<Person> tagIndex = new TagIndex<>(Person::getTags);
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final PrefixIndex prefixIndex = new PrefixIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -54,6 +75,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameIndex.put(toAdd.getName(), new Slot(toAdd, internalList.size()));
+        tagIndex.add(toAdd);
+        searchIndex.add(toAdd);
+        prefixIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -65,8 +90,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Slot targetSlot = findSlot(target);
+        if (targetSlot == null) {
             throw new PersonNotFoundException();
         }
 
@@ -74,6 +99,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person storedTarget = targetSlot.person;
+        int index = getPosition(targetSlot);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), new Slot(editedPerson, index));
+        tagIndex.replace(storedTarget, editedPerson);
+        searchIndex.replace(storedTarget, editedPerson);
+        prefixIndex.replace(storedTarget, editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -83,26 +115,44 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Slot slot = findSlot(toRemove);
+        if (slot == null) {
             throw new PersonNotFoundException();
         }
+        Person storedPerson = slot.person;
+        int index = getPosition(slot);
+        nameIndex.remove(toRemove.getName());
+        tagIndex.remove(storedPerson);
+        searchIndex.remove(storedPerson);
+        prefixIndex.remove(storedPerson);
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        nameIndex.clear();
+        replacement.nameIndex.forEach((name, slot) -> nameIndex.put(name, new Slot(slot.person, slot.position)));
+        tagIndex.setAll(replacement.internalList);
+        searchIndex.setAll(replacement.internalList);
+        prefixIndex.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException If {@code persons} contains duplicate persons, reporting the first duplicate.
      */
     public void setPersons(List<Person> persons) {
         CollectionUtil.requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Slot> replacementIndex = indexByName(persons);
 
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        tagIndex.setAll(persons);
+        searchIndex.setAll(persons);
+        prefixIndex.setAll(persons);
         internalList.setAll(persons);
     }
 
@@ -113,21 +163,12 @@ public class UniquePersonList implements Iterable<Person> {
      * @param newTag The new tag that is changed into.
      */
     public void changeRelevantPersonTag(Tag oldTag, Tag newTag) {
-        for (int i = 0; i < internalList.size(); i++) {
-            Person oldPerson = internalList.get(i);
-            List<Tag> personTags = new ArrayList<>(oldPerson.getTags());
-            if (personTags.contains(oldTag)) {
-                int index = personTags.indexOf(oldTag);
-                personTags.set(index, newTag);
-                Set<Tag> newTags = new HashSet<>(personTags);
-                Person newPerson = new Person(oldPerson.getName(),
-                        oldPerson.getPhone(),
-                        oldPerson.getEmail(),
-                        oldPerson.getAddress(),
-                        newTags);
-                internalList.set(i, newPerson);
-            }
-        }
+        updateHoldersOf(oldTag, oldTags -> {
+            Set<Tag> newTags = new HashSet<>(oldTags);
+            newTags.remove(oldTag);
+            newTags.add(newTag);
+            return newTags;
+        });
     }
 
     /**
@@ -136,19 +177,37 @@ public class UniquePersonList implements Iterable<Person> {
      * @param tag The tag to be removed.
      */
     public void removeRelevantPersonTag(Tag tag) {
-        for (int i = 0; i < internalList.size(); i++) {
+        updateHoldersOf(tag, oldTags -> {
+            Set<Tag> updatedTags = new HashSet<>(oldTags);
+            updatedTags.remove(tag);
+            return updatedTags;
+        });
+    }
+
+    /**
+     * Replaces every contact holding {@code tag} with a copy whose tags are given by {@code tagsUpdater}.
+     * Only the contacts found in the tag index are rebuilt, at their recorded positions, in the order of the list.
+     *
+     * @param tag         The tag held by the contacts to be updated.
+     * @param tagsUpdater The function that gives the new tags of a contact from its old tags.
+     */
+    private void updateHoldersOf(Tag tag, UnaryOperator<Set<Tag>> tagsUpdater) {
+        int[] positions = tagIndex.getHolders(tag).stream()
+                .mapToInt(holder -> getPosition(nameIndex.get(holder.getName())))
+                .sorted()
+                .toArray();
+        for (int i : positions) {
             Person oldPerson = internalList.get(i);
-            List<Tag> personTags = new ArrayList<>(oldPerson.getTags());
-            if (personTags.contains(tag)) {
-                personTags.remove(tag);
-                Set<Tag> updatedTags = new HashSet<>(personTags);
-                Person updatedPerson = new Person(oldPerson.getName(),
-                        oldPerson.getPhone(),
-                        oldPerson.getEmail(),
-                        oldPerson.getAddress(),
-                        updatedTags);
-                internalList.set(i, updatedPerson);
-            }
+            Person updatedPerson = new Person(oldPerson.getName(),
+                    oldPerson.getPhone(),
+                    oldPerson.getEmail(),
+                    oldPerson.getAddress(),
+                    tagsUpdater.apply(oldPerson.getTags()));
+            nameIndex.put(updatedPerson.getName(), new Slot(updatedPerson, i));
+            tagIndex.replace(oldPerson, updatedPerson);
+            searchIndex.replace(oldPerson, updatedPerson);
+            prefixIndex.replace(oldPerson, updatedPerson);
+            internalList.set(i, updatedPerson);
         }
     }
 
@@ -164,7 +223,7 @@ public class UniquePersonList implements Iterable<Person> {
         } else {
             sorted = internalList.sorted((curr, next) -> -1 * (curr.getName().compareTo(next.getName())));
         }
-        internalList.setAll(sorted);
+        setOrder(sorted);
     }
 
     /**
@@ -179,7 +238,7 @@ public class UniquePersonList implements Iterable<Person> {
         } else {
             sorted = internalList.sorted((curr, next) -> -1 * (curr.getPhone().compareTo(next.getPhone())));
         }
-        internalList.setAll(sorted);
+        setOrder(sorted);
     }
 
     /**
@@ -194,7 +253,7 @@ public class UniquePersonList implements Iterable<Person> {
         } else {
             sorted = internalList.sorted((curr, next) -> -1 * (curr.getEmail().compareTo(next.getEmail())));
         }
-        internalList.setAll(sorted);
+        setOrder(sorted);
     }
 
     /**
@@ -209,32 +268,33 @@ public class UniquePersonList implements Iterable<Person> {
         } else {
             sorted = internalList.sorted((curr, next) -> -1 * (curr.getAddress().compareTo(next.getAddress())));
         }
-        internalList.setAll(sorted);
+        setOrder(sorted);
     }
 
     /**
      * Sorts the SoConnect by a {@code Tag}.
      * Contacts with the {@code Tag} appear before those without the {@code Tag}.
      *
-     * @param tag       The {@code Tag} to sort with.
+     * @param tag       The {@code Tag} to sort with, as the instance held by the tag list of the contacts.
      * @param isReverse Whether the sorting should be in reverse order.
      */
     public void sortByTag(Tag tag, Boolean isReverse) {
-        SortedList<Person> sorted;
-        int flipIfReversed = isReverse ? -1 : 1;
-
-        sorted = internalList.sorted((curr, next) -> {
-            boolean currContains = curr.getTags().contains(tag);
-            boolean nextContains = next.getTags().contains(tag);
-            if (currContains && !nextContains) {
-                return -1 * flipIfReversed;
-            } else if (!currContains && nextContains) {
-                return 1 * flipIfReversed;
+        int holderCount = tagIndex.count(tag);
+        List<Person> withTag = new ArrayList<>(holderCount);
+        List<Person> withoutTag = new ArrayList<>(internalList.size() - holderCount);
+        for (Person person : internalList) {
+            // Tests a single bit of the person's tags, rather than hashing the person into the set of holders
+            if (person.getTags().containsInterned(tag)) {
+                withTag.add(person);
             } else {
-                return 0;
+                withoutTag.add(person);
             }
-        });
-        internalList.setAll(sorted);
+        }
+
+        List<Person> sorted = new ArrayList<>(internalList.size());
+        sorted.addAll(isReverse ? withoutTag : withTag);
+        sorted.addAll(isReverse ? withTag : withoutTag);
+        setOrder(sorted);
     }
 
     /**
@@ -248,6 +308,69 @@ public class UniquePersonList implements Iterable<Person> {
         return uniqueNames;
     }
 
+    /**
+     * Returns a {@code Predicate} equivalent to {@code predicate} that only tests the candidates found in the search
+     * index.
+     *
+     * @param predicate The predicate to be narrowed down.
+     * @return The narrowed predicate.
+     */
+    public Predicate<Person> narrowWithSearchIndex(IndexedPredicate predicate) {
+        return searchIndex.narrow(predicate);
+    }
+
+    /**
+     * Returns a {@code Predicate} equivalent to {@code predicate} for the persons in this list now, that only tests the
+     * candidates found in the search index now, and can be tested from other threads while this list is changed.
+     *
+     * @param predicate The predicate to be narrowed down.
+     * @return The narrowed predicate.
+     */
+    public Predicate<Person> narrowToCurrentCandidates(IndexedPredicate predicate) {
+        return searchIndex.narrowToCurrentCandidates(predicate);
+    }
+
+    /**
+     * Returns up to {@code limit} values of {@code field} that start with {@code prefix}, ignoring case, and are held
+     * by at least one person accepted by {@code holderFilter}, answered from the prefix index.
+     * Can be called from another thread while this list is changed.
+     *
+     * @param field The searchable field.
+     * @param prefix The prefix of the values.
+     * @param holderFilter The predicate that a holder of a value must satisfy.
+     * @param limit The maximum number of values to return.
+     * @return The values found, in case-insensitive order.
+     */
+    public List<String> findValuesWithPrefix(SearchPrefixCommand field, String prefix,
+                                             Predicate<Person> holderFilter, int limit) {
+        return prefixIndex.findValuesWithPrefix(field, prefix, holderFilter, limit);
+    }
+
+    /**
+     * Returns true if {@code value} of {@code field} is held by at least one person accepted by {@code holderFilter},
+     * answered from the prefix index. Can be called from another thread while this list is changed.
+     *
+     * @param field The searchable field.
+     * @param value The value of the field.
+     * @param holderFilter The predicate that a holder of the value must satisfy.
+     * @return True if such a person holds the value.
+     */
+    public boolean hasPersonWithValue(SearchPrefixCommand field, String value, Predicate<Person> holderFilter) {
+        return prefixIndex.hasHolder(field, value, holderFilter);
+    }
+
+    /**
+     * Returns the number of persons holding {@code value} in {@code field}, answered from the prefix index.
+     * Can be called from another thread while this list is changed.
+     *
+     * @param field The searchable field.
+     * @param value The value of the field.
+     * @return The number of persons holding the value.
+     */
+    public int countPersonsWithValue(SearchPrefixCommand field, String value) {
+        return prefixIndex.countHolders(field, value);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -273,16 +396,63 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the slot of the person equal to {@code person}, or null if there is none.
+     */
+    private Slot findSlot(Person person) {
+        Slot slot = nameIndex.get(person.getName());
+        return slot == null || !slot.person.equals(person) ? null : slot;
+    }
+
+    /**
+     * Returns the position of the person in {@code slot} in the backing list, stepping back from its recorded
+     * position over the persons removed before it since, and records it.
+     */
+    private int getPosition(Slot slot) {
+        int position = Math.min(slot.position, internalList.size() - 1);
+        while (internalList.get(position) != slot.person) {
+            position--;
+        }
+        slot.position = position;
+        return position;
+    }
+
+    /**
+     * Replaces the backing list with {@code reordered}, which holds the same persons in another order, and records
+     * their new positions.
+     */
+    private void setOrder(List<Person> reordered) {
+        for (int i = 0; i < reordered.size(); i++) {
+            nameIndex.get(reordered.get(i).getName()).position = i;
+        }
+        internalList.setAll(reordered);
+    }
+
+    /**
+     * Returns {@code persons} indexed by {@code Name}, with their positions in {@code persons}, in a single pass.
+     *
+     * @throws DuplicatePersonException If {@code persons} contains duplicate persons, reporting the first duplicate.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Slot> indexByName(List<Person> persons) {
+        Map<Name, Slot> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (index.putIfAbsent(person.getName(), new Slot(person, i)) != null) {
+                throw new DuplicatePersonException(person);
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * A person in the list and its recorded position in the backing list, which is at or after its actual position.
+     */
+    private static class Slot {
+        private final Person person;
+        private int position;
+
+        private Slot(Person person, int position) {
+            this.person = person;
+            this.position = position;
+        }
     }
 }
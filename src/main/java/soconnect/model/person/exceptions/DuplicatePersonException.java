@@ -1,5 +1,7 @@
 package soconnect.model.person.exceptions;
 
+import soconnect.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +10,13 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports the {@code duplicate} person.
+     *
+     * @param duplicate The person whose identity collides with another person.
+     */
+    public DuplicatePersonException(Person duplicate) {
+        super("Operation would result in duplicate persons: " + duplicate.getName());
+    }
 }
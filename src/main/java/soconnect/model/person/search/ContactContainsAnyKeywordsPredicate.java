@@ -1,68 +1,75 @@
 package soconnect.model.person.search;
 
 import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
-import static soconnect.model.person.search.SearchPrefix.convertPrefixToEnumType;
 
-import java.util.List;
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
-import soconnect.commons.util.StringUtil;
 import soconnect.logic.parser.ArgumentMultimap;
-import soconnect.logic.parser.Prefix;
 import soconnect.model.person.Person;
 
 /**
  * Tests that a {@code Person}'s information matches the keyword given.
+ * The keywords of each field are compiled when the predicate is constructed, and testing a person does not change
+ * the predicate, so it can be shared between identical searches and tested from many threads.
  */
-public class ContactContainsAnyKeywordsPredicate implements Predicate<Person> {
+public class ContactContainsAnyKeywordsPredicate implements IndexedPredicate {
     private final ArgumentMultimap argMultimap;
-    private boolean isNameContained = false;
-    private boolean isAddressContained = false;
-    private boolean isEmailContained = false;
-    private boolean isPhoneContained = false;
-    private boolean isTagContained = false;
+    private final String[][] nameKeywords;
+    private final String[][] addressKeywords;
+    private final String[][] emailKeywords;
+    private final String[][] phoneKeywords;
+    private final String[][] tagKeywords;
 
     /**
      * Constructs the {@code ContactContainsAnyKeywordsPredicate} object.
+     * The keywords are normalised once here, rather than for every person tested.
      */
     public ContactContainsAnyKeywordsPredicate(ArgumentMultimap argMultimap) {
         this.argMultimap = argMultimap;
+        this.nameKeywords = SearchKeywords.toUpperCaseKeywords(argMultimap, SearchPrefixCommand.NAME);
+        this.addressKeywords = SearchKeywords.toUpperCaseKeywords(argMultimap, SearchPrefixCommand.ADDRESS);
+        this.emailKeywords = SearchKeywords.toUpperCaseKeywords(argMultimap, SearchPrefixCommand.EMAIL);
+        this.phoneKeywords = SearchKeywords.toUpperCaseKeywords(argMultimap, SearchPrefixCommand.PHONE);
+        this.tagKeywords = SearchKeywords.toUpperCaseKeywords(argMultimap, SearchPrefixCommand.TAG);
     }
 
     @Override
     public boolean test(Person person) {
-        for (Prefix prefix : argMultimap.getAllPrefixes()) {
-            SearchPrefixCommand prefixCommand = convertPrefixToEnumType(prefix);
-            List<String> keywords = argMultimap.getAllValues(prefix);
-            switch (prefixCommand) {
-            case NAME:
-                isNameContained = keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsKeywordsIgnoreCase(person.getName().fullName, keyword));
-                break;
-            case ADDRESS:
-                isAddressContained = keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsKeywordsIgnoreCase(person.getAddress().value, keyword));
-                break;
-            case EMAIL:
-                isEmailContained = keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsKeywordsIgnoreCase(person.getEmail().value, keyword));
-                break;
-            case PHONE:
-                isPhoneContained = keywords.stream()
-                        .anyMatch(keyword -> StringUtil.containsKeywordsIgnoreCase(person.getPhone().value, keyword));
-                break;
-            case TAG:
-                isTagContained = keywords.stream()
-                        .anyMatch(keyword -> person.getTags().stream()
-                                .anyMatch(tag -> StringUtil.containsKeywordsIgnoreCase(tag.tagName, keyword)));
-                break;
-            default:
-                break;
-            }
-        }
+        // Every field is tested, so that an empty keyword is reported whichever field it is in.
+        boolean isNameContained = nameKeywords == null
+                ? false
+                : SearchKeywords.containsAnyKeyword(person.getName().fullName, nameKeywords);
+        boolean isAddressContained = addressKeywords == null
+                ? false
+                : SearchKeywords.containsAnyKeyword(person.getAddress().value, addressKeywords);
+        boolean isEmailContained = emailKeywords == null
+                ? false
+                : SearchKeywords.containsAnyKeyword(person.getEmail().value, emailKeywords);
+        boolean isPhoneContained = phoneKeywords == null
+                ? false
+                : SearchKeywords.containsAnyKeyword(person.getPhone().value, phoneKeywords);
+        boolean isTagContained = tagKeywords == null
+                ? false
+                : SearchKeywords.tagsContainAnyKeyword(person.getTags(), tagKeywords);
         return isNameContained || isAddressContained || isEmailContained || isPhoneContained || isTagContained;
     }
 
+    @Override
+    public void checkKeywords() {
+        SearchKeywords.checkKeywords(nameKeywords, addressKeywords, emailKeywords, phoneKeywords, tagKeywords);
+    }
+
+    @Override
+    public Optional<Set<Person>> findCandidates(SearchIndex index) {
+        try {
+            return Optional.of(SearchIndex.union(index.findPersonsWithEachKeyword(argMultimap)));
+        } catch (IllegalArgumentException e) {
+            // Leaves invalid keywords to be reported by test(Person), as before the index was used.
+            return Optional.empty();
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -71,4 +78,8 @@ public class ContactContainsAnyKeywordsPredicate implements Predicate<Person> {
                 && argMultimap.equals(((ContactContainsAnyKeywordsPredicate) other).argMultimap));
     }
 
+    @Override
+    public int hashCode() {
+        return argMultimap.hashCode();
+    }
 }
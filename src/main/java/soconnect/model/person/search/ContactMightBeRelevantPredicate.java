@@ -1,93 +1,133 @@
 package soconnect.model.person.search;
 
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
 import static soconnect.model.person.search.SearchPrefix.convertPrefixToEnumType;
 
-import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import soconnect.commons.util.StringUtil;
 import soconnect.logic.parser.ArgumentMultimap;
 import soconnect.logic.parser.Prefix;
 import soconnect.model.person.Person;
+import soconnect.model.person.SearchableText;
+import soconnect.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s information matches the keyword given.
+ * The keywords of each field are compiled when the predicate is constructed, and testing a person does not change
+ * the predicate, so it can be shared between identical searches and tested from many threads.
  */
 public class ContactMightBeRelevantPredicate implements Predicate<Person> {
+    private static final double REDUCTION_MULTIPLIER = 0.75;
+
     private final ArgumentMultimap argMultimap;
-    private boolean isNameContained = false;
-    private boolean isAddressContained = false;
-    private boolean isEmailContained = false;
-    private boolean isPhoneContained = false;
-    private boolean isTagContained = false;
-    private boolean isSearchAccuracyReduced = false;
+    private final boolean isSearchAccuracyReduced;
+    private final CharacterKeyword[] nameKeywords;
+    private final CharacterKeyword[] addressKeywords;
+    private final CharacterKeyword[] emailKeywords;
+    private final CharacterKeyword[] phoneKeywords;
+    private final CharacterKeyword[] tagKeywords;
 
     /**
      * Constructs the {@code ContactMightBeRelevantPredicate} object.
      * Tests the person by matching the keywords to all the information field, ignoring prefix groupings.
+     * The keywords are normalised once here, rather than for every person tested.
      */
     public ContactMightBeRelevantPredicate(ArgumentMultimap argMultimap, boolean isSearchAccuracyReduced) {
         this.argMultimap = argMultimap;
         this.isSearchAccuracyReduced = isSearchAccuracyReduced;
+        this.nameKeywords = toCharacterKeywords(argMultimap, SearchPrefixCommand.NAME);
+        this.addressKeywords = toCharacterKeywords(argMultimap, SearchPrefixCommand.ADDRESS);
+        this.emailKeywords = toCharacterKeywords(argMultimap, SearchPrefixCommand.EMAIL);
+        this.phoneKeywords = toCharacterKeywords(argMultimap, SearchPrefixCommand.PHONE);
+        this.tagKeywords = toCharacterKeywords(argMultimap, SearchPrefixCommand.TAG);
     }
 
     @Override
     public boolean test(Person person) {
-        for (Prefix prefix : argMultimap.getAllPrefixes()) {
-            SearchPrefix.SearchPrefixCommand prefixCommand = convertPrefixToEnumType(prefix);
-            List<String> keywords = argMultimap.getAllValues(prefix);
-            switch (prefixCommand) {
-            case NAME:
-                isNameContained = keywordsContainName(keywords, person);
-                break;
-            case ADDRESS:
-                isAddressContained = keywordsContainAddress(keywords, person);
-                break;
-            case EMAIL:
-                isEmailContained = keywordsContainEmail(keywords, person);
-                break;
-            case PHONE:
-                isPhoneContained = keywordsContainPhone(keywords, person);
-                break;
-            case TAG:
-                isTagContained = keywordsContainTag(keywords, person);
-                break;
-            default:
-                break;
+        return (nameKeywords != null && keywordsContain(nameKeywords, person.getName().fullName))
+                || (addressKeywords != null && keywordsContain(addressKeywords, person.getAddress().value))
+                || (emailKeywords != null && keywordsContain(emailKeywords, person.getEmail().value))
+                || (phoneKeywords != null && keywordsContain(phoneKeywords, person.getPhone().value))
+                || (tagKeywords != null && keywordsContainTag(tagKeywords, person.getTags()));
+    }
+
+    private boolean keywordsContain(CharacterKeyword[] keywords, String text) {
+        for (CharacterKeyword keyword : keywords) {
+            if (keyword.mightBeContainedIn(text, isSearchAccuracyReduced)) {
+                return true;
             }
         }
-        return isNameContained || isAddressContained || isEmailContained || isPhoneContained || isTagContained;
+        return false;
     }
 
-    private boolean keywordsContainName(List<String> keywords, Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .containsSomeKeywordsIgnoreCase(person.getName().fullName, keyword, isSearchAccuracyReduced));
+    private boolean keywordsContainTag(CharacterKeyword[] keywords, Set<Tag> tags) {
+        for (CharacterKeyword keyword : keywords) {
+            for (Tag tag : tags) {
+                if (keyword.mightBeContainedIn(tag.tagName, isSearchAccuracyReduced)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
-    private boolean keywordsContainAddress(List<String> keywords, Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .containsSomeKeywordsIgnoreCase(person.getAddress().value, keyword, isSearchAccuracyReduced));
+    /**
+     * Returns the keywords of {@code field} in {@code argMultimap},
+     * or null if {@code argMultimap} has no prefix for {@code field}.
+     */
+    private static CharacterKeyword[] toCharacterKeywords(ArgumentMultimap argMultimap, SearchPrefixCommand field) {
+        for (Prefix prefix : argMultimap.getAllPrefixes()) {
+            if (convertPrefixToEnumType(prefix) != field) {
+                continue;
+            }
+            return argMultimap.getAllValues(prefix).stream()
+                    .map(CharacterKeyword::new)
+                    .toArray(CharacterKeyword[]::new);
+        }
+        return null;
     }
 
-    private boolean keywordsContainEmail(List<String> keywords, Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .containsSomeKeywordsIgnoreCase(person.getEmail().value, keyword, isSearchAccuracyReduced));
-    }
+    /**
+     * The letters and digits of a keyword, which are matched to a field regardless of their order.
+     * Matches {@link StringUtil#containsSomeKeywordsIgnoreCase(String, String, boolean)}, but the characters are
+     * normalised and turned into character masks once, so that testing a field takes a single bitwise operation.
+     */
+    private static class CharacterKeyword {
+        private final String characters;
+        private final int reducedLength;
+        private final long mask;
+        private final long reducedMask;
 
-    private boolean keywordsContainPhone(List<String> keywords, Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil
-                        .containsSomeKeywordsIgnoreCase(person.getPhone().value, keyword, isSearchAccuracyReduced));
-    }
+        CharacterKeyword(String keyword) {
+            characters = keyword.replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
+            reducedLength = (int) (characters.length() * REDUCTION_MULTIPLIER);
+            mask = SearchableText.toCharacterMask(characters, characters.length());
+            reducedMask = SearchableText.toCharacterMask(characters, reducedLength);
+        }
 
-    private boolean keywordsContainTag(List<String> keywords, Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> StringUtil
-                                .containsSomeKeywordsIgnoreCase(tag.tagName, keyword, isSearchAccuracyReduced)));
+        /**
+         * Returns true if {@code text} contains every character of the keyword, or, if {@code isAccuracyReduced},
+         * the first three-quarters of them.
+         */
+        boolean mightBeContainedIn(String text, boolean isAccuracyReduced) {
+            if (characters.isEmpty()) {
+                // A keyword without letters or digits cannot match a non-empty field.
+                return false;
+            }
+            return containsCharacters(text, mask, characters.length())
+                    || (isAccuracyReduced && reducedLength > 0
+                    && containsCharacters(text, reducedMask, reducedLength));
+        }
+
+        private boolean containsCharacters(String text, long characterMask, int count) {
+            if (characterMask == SearchableText.NO_CHARACTER_MASK) {
+                return SearchableText.containsCharacters(text, characters, count);
+            }
+            return SearchableText.containsCharacters(text, characterMask);
+        }
     }
 
     @Override
@@ -95,7 +135,12 @@ public class ContactMightBeRelevantPredicate implements Predicate<Person> {
         return other == this // short circuit if same object
                 || (other instanceof ContactMightBeRelevantPredicate // instanceof handles nulls
                 // state check
-                && argMultimap.equals(((ContactMightBeRelevantPredicate) other).argMultimap));
+                && argMultimap.equals(((ContactMightBeRelevantPredicate) other).argMultimap)
+                && isSearchAccuracyReduced == ((ContactMightBeRelevantPredicate) other).isSearchAccuracyReduced);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(argMultimap, isSearchAccuracyReduced);
+    }
 }
@@ -0,0 +1,30 @@
+package soconnect.model.person.search;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import soconnect.model.person.Person;
+
+/**
+ * A {@code Predicate} of {@code Person} whose matches can be narrowed down with a {@code SearchIndex}.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in the {@code index} that might satisfy this predicate, which must include every indexed
+     * person that satisfies it. Returns {@code Optional.empty()} if the {@code index} cannot narrow down the persons.
+     *
+     * @param index The index of the persons being tested.
+     * @return The candidate persons, compared by identity.
+     */
+    Optional<Set<Person>> findCandidates(SearchIndex index);
+
+    /**
+     * Checks the keywords of this predicate up front, as {@link #test(Object)} only rejects an invalid keyword once a
+     * person is tested.
+     *
+     * @throws IllegalArgumentException If a keyword is invalid.
+     */
+    default void checkKeywords() {}
+}
@@ -0,0 +1,204 @@
+package soconnect.model.person.search;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import soconnect.commons.util.StringUtil;
+import soconnect.model.person.Person;
+
+/**
+ * A sorted index from the values of each searchable field to the persons holding them, ordered ignoring case, so
+ * that the values starting with a prefix can be found without scanning every person.
+ * Persons are tracked by identity, so the exact instances stored in the owning list must be added and removed.
+ * The index is synchronized, so values can be looked up from another thread while the owning list is changed. Only
+ * the holders of the values looked up are copied while synchronized, and the holder filters are tested on the copies,
+ * so a slow filter does not hold up changes to the index.
+ */
+public class PrefixIndex {
+
+    private final Map<SearchPrefixCommand, NavigableMap<String, Set<Person>>> holders =
+            new EnumMap<>(SearchPrefixCommand.class);
+
+    /**
+     * Adds {@code person} as a holder of the value of each of its searchable fields.
+     */
+    public synchronized void add(Person person) {
+        requireNonNull(person);
+        addValue(SearchPrefixCommand.NAME, person.getName().fullName, person);
+        addValue(SearchPrefixCommand.ADDRESS, person.getAddress().value, person);
+        addValue(SearchPrefixCommand.EMAIL, person.getEmail().value, person);
+        addValue(SearchPrefixCommand.PHONE, person.getPhone().value, person);
+        person.getTags().forEach(tag -> addValue(SearchPrefixCommand.TAG, tag.tagName, person));
+    }
+
+    /**
+     * Removes {@code person} as a holder of the value of each of its searchable fields.
+     */
+    public synchronized void remove(Person person) {
+        requireNonNull(person);
+        removeValue(SearchPrefixCommand.NAME, person.getName().fullName, person);
+        removeValue(SearchPrefixCommand.ADDRESS, person.getAddress().value, person);
+        removeValue(SearchPrefixCommand.EMAIL, person.getEmail().value, person);
+        removeValue(SearchPrefixCommand.PHONE, person.getPhone().value, person);
+        person.getTags().forEach(tag -> removeValue(SearchPrefixCommand.TAG, tag.tagName, person));
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement} in the index.
+     */
+    public synchronized void replace(Person target, Person replacement) {
+        remove(target);
+        add(replacement);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public synchronized void setAll(Iterable<Person> persons) {
+        holders.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns up to {@code limit} values of {@code field} that start with {@code prefix}, ignoring case, and are
+     * held by at least one person accepted by {@code holderFilter}. The values are ordered ignoring case, and only
+     * the values up to the last one returned are looked at. They are looked at in batches of up to {@code limit}
+     * values, so a value changed between two batches may be missed.
+     *
+     * @param field The searchable field.
+     * @param prefix Cannot be null.
+     * @param holderFilter The predicate that a holder of a value must satisfy.
+     * @param limit The maximum number of values to return.
+     */
+    public List<String> findValuesWithPrefix(SearchPrefixCommand field, String prefix,
+                                             Predicate<Person> holderFilter, int limit) {
+        requireAllNonNull(field, prefix, holderFilter);
+        List<String> values = new ArrayList<>();
+        String lastValue = null;
+        while (values.size() < limit) {
+            List<Map.Entry<String, Person[]>> batch = copyHoldersWithPrefix(field, prefix, lastValue, limit);
+            for (Map.Entry<String, Person[]> entry : batch) {
+                if (values.size() < limit && Arrays.stream(entry.getValue()).anyMatch(holderFilter)) {
+                    values.add(entry.getKey());
+                }
+            }
+            if (batch.size() < limit) {
+                break;
+            }
+            lastValue = batch.get(batch.size() - 1).getKey();
+        }
+        return values;
+    }
+
+    /**
+     * Returns true if {@code value} of {@code field} is held by at least one person accepted by {@code holderFilter}.
+     *
+     * @param field The searchable field.
+     * @param value The value of the field, compared exactly.
+     * @param holderFilter The predicate that a holder of the value must satisfy.
+     */
+    public boolean hasHolder(SearchPrefixCommand field, String value, Predicate<Person> holderFilter) {
+        requireAllNonNull(field, value, holderFilter);
+        return Arrays.stream(copyHolders(field, value)).anyMatch(holderFilter);
+    }
+
+    /**
+     * Returns the number of persons holding {@code value} in {@code field}.
+     * For the {@code TAG} field, this is the number of persons holding the tag.
+     *
+     * @param field The searchable field.
+     * @param value The value of the field, compared exactly.
+     */
+    public synchronized int countHolders(SearchPrefixCommand field, String value) {
+        requireAllNonNull(field, value);
+        NavigableMap<String, Set<Person>> fieldHolders = holders.get(field);
+        if (fieldHolders == null) {
+            return 0;
+        }
+        return fieldHolders.getOrDefault(value, Collections.emptySet()).size();
+    }
+
+    /**
+     * Returns the values of {@code field} that start with {@code prefix}, ignoring case, and are ordered after
+     * {@code lastValue}, up to {@code count} of them, each with a copy of its holders.
+     *
+     * @param lastValue The value to continue after, which starts with {@code prefix}, or null to start at the first.
+     */
+    private synchronized List<Map.Entry<String, Person[]>> copyHoldersWithPrefix(SearchPrefixCommand field,
+            String prefix, String lastValue, int count) {
+        NavigableMap<String, Set<Person>> fieldHolders = holders.get(field);
+        if (fieldHolders == null) {
+            return new ArrayList<>();
+        }
+        Stream<Map.Entry<String, Set<Person>>> entries = lastValue == null
+                ? StringUtil.streamEntriesStartingWithIgnoreCase(fieldHolders, prefix)
+                : fieldHolders.tailMap(lastValue, false).entrySet().stream()
+                        .takeWhile(entry -> entry.getKey().regionMatches(true, 0, prefix, 0, prefix.length()));
+        return entries.limit(count)
+                .map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), toArray(entry.getValue())))
+                .collect(Collectors.toList());
+    }
+
+    private synchronized Person[] copyHolders(SearchPrefixCommand field, String value) {
+        NavigableMap<String, Set<Person>> fieldHolders = holders.get(field);
+        if (fieldHolders == null) {
+            return new Person[0];
+        }
+        return toArray(fieldHolders.getOrDefault(value, Collections.emptySet()));
+    }
+
+    private static Person[] toArray(Set<Person> valueHolders) {
+        return valueHolders.toArray(new Person[0]);
+    }
+
+    private void addValue(SearchPrefixCommand field, String value, Person person) {
+        NavigableMap<String, Set<Person>> fieldHolders =
+                holders.computeIfAbsent(field, unused -> new TreeMap<>(StringUtil.IGNORE_CASE_ORDER));
+        Set<Person> valueHolders = fieldHolders.get(value);
+        if (valueHolders == null) {
+            // Most values are held by a single person, so a set is only made once a value is shared
+            fieldHolders.put(value, Collections.singleton(person));
+            return;
+        }
+        if (valueHolders.size() == 1) {
+            Set<Person> sharedHolders = SearchIndex.newIdentitySet();
+            sharedHolders.addAll(valueHolders);
+            fieldHolders.put(value, sharedHolders);
+            valueHolders = sharedHolders;
+        }
+        valueHolders.add(person);
+    }
+
+    private void removeValue(SearchPrefixCommand field, String value, Person person) {
+        NavigableMap<String, Set<Person>> fieldHolders = holders.get(field);
+        if (fieldHolders == null) {
+            return;
+        }
+        Set<Person> valueHolders = fieldHolders.get(value);
+        if (valueHolders == null) {
+            return;
+        }
+        if (valueHolders.size() == 1) {
+            if (valueHolders.iterator().next() == person) {
+                fieldHolders.remove(value);
+            }
+            return;
+        }
+        valueHolders.remove(person);
+    }
+}
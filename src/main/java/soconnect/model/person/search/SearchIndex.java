@@ -0,0 +1,252 @@
+package soconnect.model.person.search;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+import static soconnect.model.person.search.SearchPrefix.convertPrefixToEnumType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import soconnect.commons.util.StringUtil;
+import soconnect.logic.parser.ArgumentMultimap;
+import soconnect.logic.parser.Prefix;
+import soconnect.model.person.Person;
+import soconnect.model.person.SearchableText;
+import soconnect.model.tag.Tag;
+
+/**
+ * An inverted index from the upper-cased words of each searchable field to the persons containing them.
+ * Persons are tracked by identity, so the exact instances stored in the owning list must be added and removed.
+ */
+public class SearchIndex {
+
+    private final Map<SearchPrefixCommand, Map<String, Set<Person>>> postings =
+            new EnumMap<>(SearchPrefixCommand.class);
+    private long version = 0;
+
+    /**
+     * Adds {@code person} to the posting list of every word in its searchable fields.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        addWords(SearchPrefixCommand.NAME, person.getName().fullName, person);
+        addWords(SearchPrefixCommand.ADDRESS, person.getAddress().value, person);
+        addWords(SearchPrefixCommand.EMAIL, person.getEmail().value, person);
+        addWords(SearchPrefixCommand.PHONE, person.getPhone().value, person);
+        for (Tag tag : person.getTags()) {
+            addWords(SearchPrefixCommand.TAG, tag.tagName, person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the posting list of every word in its searchable fields.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        removeWords(SearchPrefixCommand.NAME, person.getName().fullName, person);
+        removeWords(SearchPrefixCommand.ADDRESS, person.getAddress().value, person);
+        removeWords(SearchPrefixCommand.EMAIL, person.getEmail().value, person);
+        removeWords(SearchPrefixCommand.PHONE, person.getPhone().value, person);
+        for (Tag tag : person.getTags()) {
+            removeWords(SearchPrefixCommand.TAG, tag.tagName, person);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement} in the index.
+     */
+    public void replace(Person target, Person replacement) {
+        remove(target);
+        add(replacement);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setAll(Iterable<Person> persons) {
+        postings.clear();
+        persons.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns a new set of the persons whose {@code field} contains every word of {@code keywords}.
+     * Tags are indexed together, so for the {@code TAG} field the words may come from different tags.
+     *
+     * @param field The searchable field.
+     * @param keywords Cannot be null, cannot be empty, can be multiple words.
+     */
+    public Set<Person> findPersonsWithAllWords(SearchPrefixCommand field, String keywords) {
+        requireNonNull(field);
+        Map<String, Set<Person>> fieldPostings = postings.getOrDefault(field, Collections.emptyMap());
+        List<Set<Person>> holdersOfWords = new ArrayList<>();
+        for (String word : StringUtil.toUpperCaseKeywords(keywords)) {
+            holdersOfWords.add(fieldPostings.getOrDefault(word, Collections.emptySet()));
+        }
+        return intersection(holdersOfWords);
+    }
+
+    /**
+     * Returns, for every keyword of every searchable prefix in {@code argMultimap}, a new set of the persons whose
+     * field of that prefix contains every word of the keyword.
+     *
+     * @param argMultimap The search keywords grouped by prefix.
+     */
+    public List<Set<Person>> findPersonsWithEachKeyword(ArgumentMultimap argMultimap) {
+        requireNonNull(argMultimap);
+        List<Set<Person>> personsWithEachKeyword = new ArrayList<>();
+        for (Prefix prefix : argMultimap.getAllPrefixes()) {
+            SearchPrefixCommand field = convertPrefixToEnumType(prefix);
+            if (field == SearchPrefixCommand.NOTPREFIX) {
+                continue;
+            }
+            for (String keyword : argMultimap.getAllValues(prefix)) {
+                personsWithEachKeyword.add(findPersonsWithAllWords(field, keyword));
+            }
+        }
+        return personsWithEachKeyword;
+    }
+
+    /**
+     * Returns a {@code Predicate} equivalent to {@code predicate} that only tests the candidates found in this index.
+     * The candidates are looked up again whenever the index has changed since the last test.
+     */
+    public Predicate<Person> narrow(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        return new NarrowedPredicate(predicate);
+    }
+
+    /**
+     * Returns a {@code Predicate} equivalent to {@code predicate} for the persons in this index now, that only tests
+     * the candidates found in this index now.
+     * The index is not read again, so the predicate can be tested from other threads while the index is changed, but
+     * persons added to the index afterwards are never matched.
+     */
+    public Predicate<Person> narrowToCurrentCandidates(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        // The candidates are a new set, so later changes to the index do not reach them
+        Set<Person> candidates = predicate.findCandidates(this).orElse(null);
+        return person -> (candidates == null || candidates.contains(person)) && predicate.test(person);
+    }
+
+    /**
+     * Returns a new empty set that compares persons by identity.
+     */
+    public static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns a new set of the persons found in any of {@code sets}, compared by identity.
+     */
+    public static Set<Person> union(List<Set<Person>> sets) {
+        Set<Person> union = newIdentitySet();
+        sets.forEach(union::addAll);
+        return union;
+    }
+
+    /**
+     * Returns a new set of the persons found in all of {@code sets}, compared by identity.
+     * {@code sets} cannot be empty.
+     */
+    public static Set<Person> intersection(List<Set<Person>> sets) {
+        Set<Person> smallest = Collections.min(sets, (first, second) -> Integer.compare(first.size(), second.size()));
+        Set<Person> intersection = newIdentitySet();
+        intersection.addAll(smallest);
+        for (Collection<Person> set : sets) {
+            if (intersection.isEmpty()) {
+                break;
+            }
+            if (set != smallest) {
+                intersection.retainAll(set);
+            }
+        }
+        return intersection;
+    }
+
+    private void addWords(SearchPrefixCommand field, String text, Person person) {
+        Map<String, Set<Person>> fieldPostings = postings.computeIfAbsent(field, unused -> new HashMap<>());
+        for (String word : SearchableText.getWords(text)) {
+            // Most words are held by few persons, so posting lists start small
+            fieldPostings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>(1)))
+                    .add(person);
+        }
+    }
+
+    private void removeWords(SearchPrefixCommand field, String text, Person person) {
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        if (fieldPostings == null) {
+            return;
+        }
+        for (String word : SearchableText.getWords(text)) {
+            Set<Person> holders = fieldPostings.get(word);
+            if (holders == null) {
+                continue;
+            }
+            holders.remove(person);
+            if (holders.isEmpty()) {
+                fieldPostings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * A {@code Predicate} that only tests the persons the index finds as candidates of an {@code IndexedPredicate}.
+     * The candidates are looked up in the index whenever it has changed, so the predicate must only be tested on the
+     * thread that changes the index.
+     */
+    private class NarrowedPredicate implements Predicate<Person> {
+        private final IndexedPredicate predicate;
+        private Candidates candidates;
+
+        NarrowedPredicate(IndexedPredicate predicate) {
+            this.predicate = predicate;
+            this.candidates = findCandidates();
+        }
+
+        @Override
+        public boolean test(Person person) {
+            Candidates currentCandidates = candidates;
+            if (currentCandidates.version != version) {
+                currentCandidates = findCandidates();
+                candidates = currentCandidates;
+            }
+            return currentCandidates.mightMatch(person) && predicate.test(person);
+        }
+
+        private Candidates findCandidates() {
+            return new Candidates(predicate.findCandidates(SearchIndex.this).orElse(null), version);
+        }
+    }
+
+    /**
+     * The candidates of an {@code IndexedPredicate} found in a version of the index.
+     */
+    private static class Candidates {
+        private final Set<Person> persons;
+        private final long version;
+
+        /**
+         * @param persons The candidates, or null if every person is a candidate.
+         * @param version The version of the index the candidates were found in.
+         */
+        Candidates(Set<Person> persons, long version) {
+            this.persons = persons;
+            this.version = version;
+        }
+
+        boolean mightMatch(Person person) {
+            return persons == null || persons.contains(person);
+        }
+    }
+}
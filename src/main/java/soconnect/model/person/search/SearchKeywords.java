@@ -0,0 +1,130 @@
+package soconnect.model.person.search;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+import static soconnect.model.person.search.SearchPrefix.convertPrefixToEnumType;
+
+import java.util.List;
+import java.util.Set;
+
+import soconnect.commons.util.StringUtil;
+import soconnect.logic.parser.ArgumentMultimap;
+import soconnect.logic.parser.Prefix;
+import soconnect.model.person.SearchableText;
+import soconnect.model.tag.Tag;
+
+/**
+ * Normalises the keywords of a search once, in the same way as {@code SearchableText} finds the words of the fields of
+ * a {@code Person}, and matches them against them.
+ * An empty keyword is kept as null and only reported when it is matched, as
+ * {@link StringUtil#containsKeywordsIgnoreCase(String, String)} would.
+ */
+class SearchKeywords {
+
+    /**
+     * Returns the upper-cased words of each keyword of {@code field} in {@code argMultimap},
+     * or null if {@code argMultimap} has no prefix for {@code field}.
+     */
+    static String[][] toUpperCaseKeywords(ArgumentMultimap argMultimap, SearchPrefixCommand field) {
+        requireNonNull(argMultimap);
+        for (Prefix prefix : argMultimap.getAllPrefixes()) {
+            if (convertPrefixToEnumType(prefix) != field) {
+                continue;
+            }
+            List<String> keywords = argMultimap.getAllValues(prefix);
+            String[][] upperCaseKeywords = new String[keywords.size()][];
+            for (int i = 0; i < upperCaseKeywords.length; i++) {
+                upperCaseKeywords[i] = toUpperCaseKeywordOrNull(keywords.get(i));
+            }
+            return upperCaseKeywords;
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if {@code text} contains every one of the {@code keywords}.
+     */
+    static boolean containsAllKeywords(String text, String[][] keywords) {
+        for (String[] keyword : keywords) {
+            if (!SearchableText.containsWords(text, requireValid(keyword))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the {@code keywords}.
+     */
+    static boolean containsAnyKeyword(String text, String[][] keywords) {
+        for (String[] keyword : keywords) {
+            if (SearchableText.containsWords(text, requireValid(keyword))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every one of the {@code keywords} is contained in at least one of the {@code tags}.
+     */
+    static boolean tagsContainAllKeywords(Set<Tag> tags, String[][] keywords) {
+        for (String[] keyword : keywords) {
+            if (!anyTagContains(tags, keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any of the {@code keywords} is contained in at least one of the {@code tags}.
+     */
+    static boolean tagsContainAnyKeyword(Set<Tag> tags, String[][] keywords) {
+        for (String[] keyword : keywords) {
+            if (anyTagContains(tags, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyTagContains(Set<Tag> tags, String[] keyword) {
+        for (Tag tag : tags) {
+            if (SearchableText.containsWords(tag.tagName, requireValid(keyword))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if any keyword of any of the fields is empty.
+     * Fields without a prefix have null keywords and are skipped.
+     */
+    static void checkKeywords(String[][]... keywordsOfFields) {
+        for (String[][] keywords : keywordsOfFields) {
+            if (keywords == null) {
+                continue;
+            }
+            for (String[] keyword : keywords) {
+                requireValid(keyword);
+            }
+        }
+    }
+
+    private static String[] toUpperCaseKeywordOrNull(String keyword) {
+        try {
+            return StringUtil.toUpperCaseKeywords(keyword);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String[] requireValid(String[] keyword) {
+        if (keyword == null) {
+            throw new IllegalArgumentException("Word parameter cannot be empty");
+        }
+        return keyword;
+    }
+}
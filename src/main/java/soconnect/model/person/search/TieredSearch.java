@@ -0,0 +1,217 @@
+package soconnect.model.person.search;
+
+import static soconnect.commons.util.AppUtil.checkArgument;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import soconnect.model.person.Person;
+
+/**
+ * Searches persons with several tiers of predicates, from the most to the least accurate, and finds the persons
+ * matching the most accurate tier that any person matches.
+ * Every tier is evaluated in a single scan of the persons. A less accurate tier is only tested on a person while no
+ * person has matched a more accurate tier.
+ */
+public class TieredSearch {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private final List<Predicate<Person>> tiers;
+    private final List<Predicate<Person>> scanTiers;
+
+    /**
+     * Constructs a {@code TieredSearch}.
+     *
+     * @param tiers The predicates of each tier, from the most to the least accurate. Cannot be empty.
+     */
+    public TieredSearch(List<Predicate<Person>> tiers) {
+        this(tiers, tiers);
+    }
+
+    /**
+     * Constructs a {@code TieredSearch} that scans the searched persons with different predicates than it tests on
+     * the persons added or edited after the search.
+     *
+     * @param tiers The predicates of each tier, from the most to the least accurate. Cannot be empty.
+     * @param scanTiers Predicates equivalent to each of the {@code tiers} for the searched persons, which are tested
+     *     in the scan, such as predicates that are safe to test from many threads.
+     */
+    public TieredSearch(List<Predicate<Person>> tiers, List<Predicate<Person>> scanTiers) {
+        requireAllNonNull(tiers);
+        requireAllNonNull(scanTiers);
+        checkArgument(!tiers.isEmpty(), "There must be at least one tier");
+        checkArgument(tiers.size() == scanTiers.size(), "There must be a scan predicate for every tier");
+        this.tiers = new ArrayList<>(tiers);
+        this.scanTiers = new ArrayList<>(scanTiers);
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match the most accurate tier matched by any of them.
+     *
+     * @param persons The persons to be searched.
+     * @return The result of the search.
+     */
+    public Result search(List<Person> persons) {
+        return toResult(persons, scan(persons, 0, persons.size()));
+    }
+
+    /**
+     * Starts a search of {@code persons} in the common fork-join pool, which scans chunks of {@code persons} in
+     * parallel, and returns at once with the future result of the search.
+     * The scan tiers must be safe to test from many threads, and {@code persons} must not change during the search.
+     *
+     * @param persons The persons to be searched.
+     * @return The future result of the search.
+     */
+    public CompletableFuture<Result> searchInBackground(List<Person> persons) {
+        return CompletableFuture.supplyAsync(() ->
+                toResult(persons, new ScanTask(persons, 0, persons.size()).invoke()), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the matches of the most accurate tier matched by the persons from index {@code from} (inclusive)
+     * to index {@code to} (exclusive) of {@code persons}.
+     */
+    private Matches scan(List<Person> persons, int from, int to) {
+        Matches matches = new Matches(tiers.size());
+        for (int i = from; i < to; i++) {
+            int tier = findFirstMatchingTier(persons.get(i), matches.tier);
+            if (tier < matches.tier) {
+                matches.tier = tier;
+                matches.indices.clear();
+            }
+            if (tier == matches.tier && tier < tiers.size()) {
+                matches.indices.set(i);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the index of the first tier, up to and including {@code lastTier}, that {@code person} matches,
+     * or the number of tiers if it matches none of them.
+     */
+    private int findFirstMatchingTier(Person person, int lastTier) {
+        for (int tier = 0; tier <= lastTier && tier < scanTiers.size(); tier++) {
+            if (scanTiers.get(tier).test(person)) {
+                return tier;
+            }
+        }
+        return tiers.size();
+    }
+
+    private Result toResult(List<Person> persons, Matches matches) {
+        Set<Person> matchedPersons = SearchIndex.newIdentitySet();
+        for (int i = matches.indices.nextSetBit(0); i >= 0; i = matches.indices.nextSetBit(i + 1)) {
+            matchedPersons.add(persons.get(i));
+        }
+        // Without any match, persons added later are tested against the least accurate tier
+        Predicate<Person> matchedTierPredicate = tiers.get(Math.min(matches.tier, tiers.size() - 1));
+        return new Result(matchedPersons, matchedTierPredicate, matches.tier);
+    }
+
+    /**
+     * The indices of the persons matching the most accurate tier matched in a range of the searched persons.
+     */
+    private static class Matches {
+        private final BitSet indices = new BitSet();
+        private int tier;
+
+        Matches(int tier) {
+            this.tier = tier;
+        }
+
+        /**
+         * Returns the matches of the most accurate tier among these matches and {@code other}.
+         */
+        Matches merge(Matches other) {
+            if (other.tier < tier) {
+                return other;
+            }
+            if (other.tier == tier) {
+                indices.or(other.indices);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Scans a range of the searched persons, splitting it into chunks that are scanned in parallel.
+     */
+    private class ScanTask extends RecursiveTask<Matches> {
+        private final List<Person> persons;
+        private final int from;
+        private final int to;
+
+        ScanTask(List<Person> persons, int from, int to) {
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Matches compute() {
+            if (to - from <= CHUNK_SIZE) {
+                return scan(persons, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask firstHalf = new ScanTask(persons, from, middle);
+            firstHalf.fork();
+            Matches secondHalfMatches = new ScanTask(persons, middle, to).compute();
+            return firstHalf.join().merge(secondHalfMatches);
+        }
+    }
+
+    /**
+     * The persons found by a {@code TieredSearch}, which can be used to filter the searched persons.
+     * When it is first applied to the searched persons, the result of the scan is reused. Persons added or edited
+     * afterwards are tested against the predicate of the matched tier.
+     */
+    public static class Result implements Predicate<Person> {
+        private final Set<Person> matches;
+        private final Predicate<Person> matchedTierPredicate;
+        private final int matchedTier;
+        private volatile boolean isApplied = false;
+
+        private Result(Set<Person> matches, Predicate<Person> matchedTierPredicate, int matchedTier) {
+            this.matches = matches;
+            this.matchedTierPredicate = matchedTierPredicate;
+            this.matchedTier = matchedTier;
+        }
+
+        /**
+         * Returns the index of the tier the persons matched, or the number of tiers if no person matched any tier.
+         */
+        public int getMatchedTier() {
+            return matchedTier;
+        }
+
+        /**
+         * Returns the number of persons that matched.
+         */
+        public int size() {
+            return matches.size();
+        }
+
+        /**
+         * Marks this result as applied to the searched persons, after which persons that were not searched are
+         * tested against the predicate of the matched tier.
+         */
+        public void markApplied() {
+            isApplied = true;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches.contains(person) || (isApplied && matchedTierPredicate.test(person));
+        }
+    }
+}
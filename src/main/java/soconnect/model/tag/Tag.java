@@ -18,16 +18,30 @@ public class Tag {
 
     public final String tagName;
 
+    /**
+     * The ordinal given to this tag by the tag list holding it, which is the bit of the tag in a {@code TagSet},
+     * or -1 if the tag was not created by a tag list.
+     */
+    final int ordinal;
+
     /**
      * Constructs a {@code Tag}.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, -1);
+    }
+
+    /**
+     * Constructs a {@code Tag} with the {@code ordinal} given to it by a tag list.
+     */
+    Tag(String tagName, int ordinal) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         checkArgument(isValidLength(tagName), MESSAGE_TOO_LONG);
         this.tagName = tagName;
+        this.ordinal = ordinal;
     }
 
     /**
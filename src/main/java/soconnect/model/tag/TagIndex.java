@@ -0,0 +1,93 @@
+package soconnect.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from each {@code Tag} to the entities holding it.
+ * Entities are tracked by identity, so the exact instances stored in the owning list must be added and removed.
+ *
+ * @param <T> The type of the tagged entities.
+ */
+public class TagIndex<T> {
+
+    private final Function<T, Set<Tag>> tagsOf;
+    private final Map<Tag, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Constructs an empty {@code TagIndex}.
+     *
+     * @param tagsOf The function that gives the tags of an entity.
+     */
+    public TagIndex(Function<T, Set<Tag>> tagsOf) {
+        requireNonNull(tagsOf);
+        this.tagsOf = tagsOf;
+    }
+
+    /**
+     * Adds {@code entity} to the posting list of each of its tags.
+     */
+    public void add(T entity) {
+        requireNonNull(entity);
+        for (Tag tag : tagsOf.apply(entity)) {
+            postings.computeIfAbsent(tag, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entity);
+        }
+    }
+
+    /**
+     * Removes {@code entity} from the posting list of each of its tags.
+     */
+    public void remove(T entity) {
+        requireNonNull(entity);
+        for (Tag tag : tagsOf.apply(entity)) {
+            Set<T> holders = postings.get(tag);
+            if (holders == null) {
+                continue;
+            }
+            holders.remove(entity);
+            if (holders.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement} in the index.
+     */
+    public void replace(T target, T replacement) {
+        remove(target);
+        add(replacement);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code entities}.
+     */
+    public void setAll(Iterable<T> entities) {
+        postings.clear();
+        entities.forEach(this::add);
+    }
+
+    /**
+     * Returns an unmodifiable view of the entities holding {@code tag}, compared by identity.
+     */
+    public Set<T> getHolders(Tag tag) {
+        requireNonNull(tag);
+        Set<T> holders = postings.get(tag);
+        return holders == null ? Collections.emptySet() : Collections.unmodifiableSet(holders);
+    }
+
+    /**
+     * Returns the number of entities holding {@code tag}.
+     */
+    public int count(Tag tag) {
+        requireNonNull(tag);
+        Set<T> holders = postings.get(tag);
+        return holders == null ? 0 : holders.size();
+    }
+}
@@ -0,0 +1,187 @@
+package soconnect.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, held in an array sorted by tag name.
+ * A person or todo holds only a few tags, so a sorted array takes a fraction of the memory of a {@code HashSet}.
+ * Being immutable, a {@code TagSet} is returned as it is instead of being wrapped in an unmodifiable view, and is
+ * shared by the copies of a person or todo.
+ * When every tag was created by a tag list, the set is also held as a bitset over their ordinals, so that
+ * {@link #containsInterned(Tag)} tests a single bit for a tag the set does not hold. The bitset is only kept while it
+ * takes no more than one word per tag, and the first word is held in a field, so a person with a few tags pays at most
+ * 8 bytes for it.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private static final Comparator<Tag> NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+    private final boolean isBitset;
+    private final long firstWord;
+    private final long[] otherWords;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        int maxOrdinal = -1;
+        boolean isInterned = true;
+        for (Tag tag : tags) {
+            isInterned &= tag.ordinal >= 0;
+            maxOrdinal = Math.max(maxOrdinal, tag.ordinal);
+        }
+        int wordCount = toWordCount(maxOrdinal + 1);
+        isBitset = isInterned && wordCount <= Math.max(1, tags.length);
+
+        long first = 0;
+        long[] others = isBitset && wordCount > 1 ? new long[wordCount - 1] : null;
+        for (int i = 0; isBitset && i < tags.length; i++) {
+            int ordinal = tags[i].ordinal;
+            if (ordinal < BITS_PER_WORD) {
+                first |= 1L << ordinal;
+            } else {
+                others[ordinal / BITS_PER_WORD - 1] |= 1L << ordinal;
+            }
+        }
+        firstWord = first;
+        otherWords = others;
+    }
+
+    /**
+     * Returns a {@code TagSet} of the distinct tags in {@code tags}, or {@code tags} itself if it is a
+     * {@code TagSet}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.toArray(new Tag[0]);
+        Arrays.sort(sortedTags, NAME_ORDER);
+        int distinctCount = 0;
+        for (Tag tag : sortedTags) {
+            if (distinctCount == 0 || !sortedTags[distinctCount - 1].equals(tag)) {
+                sortedTags[distinctCount++] = tag;
+            }
+        }
+        return new TagSet(distinctCount == sortedTags.length ? sortedTags : Arrays.copyOf(sortedTags, distinctCount));
+    }
+
+    /**
+     * Returns the number of words of a bitset with {@code ordinalCount} bits.
+     */
+    private static int toWordCount(int ordinalCount) {
+        return (ordinalCount + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Tag)) {
+            return false;
+        }
+        for (Tag tag : tags) {
+            if (tag == object) {
+                return true;
+            }
+        }
+        return Arrays.binarySearch(tags, (Tag) object, NAME_ORDER) >= 0;
+    }
+
+    /**
+     * Returns true if this set holds {@code tag}, where the tags of this set and {@code tag} are the instances held
+     * by the same tag list, as the tags of the persons in a {@code SoConnect} are.
+     * Tests a single bit if this set is held as a bitset, and confirms a set bit by name, as the tag list gives the
+     * ordinal of a deleted tag to the next tag created.
+     */
+    public boolean containsInterned(Tag tag) {
+        requireNonNull(tag);
+        if (!isBitset || tag.ordinal < 0) {
+            return contains(tag);
+        }
+        return (getWord(tag.ordinal / BITS_PER_WORD) & (1L << tag.ordinal)) != 0
+                && Arrays.binarySearch(tags, tag, NAME_ORDER) >= 0;
+    }
+
+    private long getWord(int index) {
+        if (index == 0) {
+            return firstWord;
+        }
+        return otherWords != null && index <= otherWords.length ? otherWords[index - 1] : 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
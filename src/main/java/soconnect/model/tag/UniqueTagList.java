@@ -3,28 +3,55 @@ package soconnect.model.tag;
 import static java.util.Objects.requireNonNull;
 import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import soconnect.model.person.exceptions.DuplicatePersonException;
+import soconnect.commons.util.StringUtil;
+import soconnect.model.tag.exceptions.DuplicateTagException;
 
 /**
  * A list of tags.
+ *
+ * The tags are also kept in a map sorted by name ignoring case, so that a tag can be found, and the tags starting
+ * with a prefix listed, without scanning every tag. The map is synchronized, so the tags starting with a prefix can be
+ * listed from another thread while the list is changed.
+ * The tags in the list are the canonical instances of their names, which the persons and todos holding them share.
+ * Each of them is given an ordinal, its bit in the {@code TagSet} of its holders. A created or renamed tag is given the
+ * lowest ordinal not held by another tag, so the ordinals stay below the number of tags and the tag sets stay bitsets
+ * however often the tags change. A tag set again under the same name keeps its ordinal. A set still holding a deleted
+ * or renamed tag does not seem to hold the tag given its ordinal, as {@code TagSet} confirms a set bit by name.
  */
 public class UniqueTagList implements Iterable<Tag> {
 
     private final ObservableList<Tag> tagArrayList = FXCollections.observableArrayList();
     private final ObservableList<Tag> tagUnmodifiableList =
             FXCollections.unmodifiableObservableList(tagArrayList);
+    private final NavigableMap<String, Tag> nameIndex = new TreeMap<>(StringUtil.IGNORE_CASE_ORDER);
+    private final BitSet usedOrdinals = new BitSet();
 
     public int size() {
         return tagArrayList.size();
     }
 
-    public void addTagToList(Tag tag) {
-        tagArrayList.add(tag);
+    /**
+     * Adds the tag, as an instance given the lowest free ordinal.
+     *
+     * @param tag The tag to be added.
+     */
+    public synchronized void addTagToList(Tag tag) {
+        Tag canonicalTag = withOrdinal(tag, takeFreeOrdinal());
+        nameIndex.put(canonicalTag.tagName, canonicalTag);
+        tagArrayList.add(canonicalTag);
     }
 
     /**
@@ -33,10 +60,14 @@ public class UniqueTagList implements Iterable<Tag> {
      * @param oldTag The tag to be changed.
      * @param newTag The tag to be changed into.
      */
-    public void editTag(Tag oldTag, Tag newTag) {
+    public synchronized void editTag(Tag oldTag, Tag newTag) {
         requireAllNonNull(oldTag, newTag);
         int index = tagArrayList.indexOf(oldTag);
-        tagArrayList.set(index, newTag);
+        usedOrdinals.clear(tagArrayList.get(index).ordinal);
+        Tag canonicalTag = withOrdinal(newTag, takeFreeOrdinal());
+        nameIndex.remove(oldTag.tagName);
+        nameIndex.put(canonicalTag.tagName, canonicalTag);
+        tagArrayList.set(index, canonicalTag);
     }
 
     /**
@@ -45,9 +76,38 @@ public class UniqueTagList implements Iterable<Tag> {
      * @param tag The tag to be checked.
      * @return True if the tag exists. False if otherwise.
      */
-    public boolean hasTag(Tag tag) {
+    public synchronized boolean hasTag(Tag tag) {
+        requireNonNull(tag);
+        return nameIndex.containsKey(tag.tagName);
+    }
+
+    /**
+     * Returns the instance of {@code tag} held by this list, or {@code tag} without an ordinal if this list does not
+     * hold it, as its ordinal may have been given by another list.
+     */
+    public synchronized Tag intern(Tag tag) {
         requireNonNull(tag);
-        return tagArrayList.contains(tag);
+        Tag heldTag = nameIndex.get(tag.tagName);
+        if (heldTag != null && heldTag.equals(tag)) {
+            return heldTag;
+        }
+        return tag.ordinal < 0 ? tag : new Tag(tag.tagName);
+    }
+
+    /**
+     * Returns {@code tags} with each tag replaced by its instance held by this list, or {@code tags} itself if all of
+     * them already are those instances.
+     */
+    public synchronized TagSet internAll(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        boolean isInterned = true;
+        for (Tag tag : tags) {
+            isInterned &= intern(tag) == tag;
+        }
+        if (isInterned && tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        return TagSet.of(tags.stream().map(this::intern).collect(Collectors.toList()));
     }
 
     /**
@@ -65,9 +125,14 @@ public class UniqueTagList implements Iterable<Tag> {
      *
      * @param tag The tag to be deleted.
      */
-    public void deleteTag(Tag tag) {
+    public synchronized void deleteTag(Tag tag) {
         requireNonNull(tag);
-        tagArrayList.remove(tag);
+        int index = tagArrayList.indexOf(tag);
+        if (index < 0) {
+            return;
+        }
+        nameIndex.remove(tag.tagName);
+        usedOrdinals.clear(tagArrayList.remove(index).ordinal);
     }
 
     /**
@@ -76,23 +141,50 @@ public class UniqueTagList implements Iterable<Tag> {
      * @param tag The reference tag.
      * @return The tag that has the same name as the reference tag.
      */
-    public Tag getTag(Tag tag) {
-        int index = tagArrayList.indexOf(tag);
-        return tagArrayList.get(index);
+    public synchronized Tag getTag(Tag tag) {
+        Tag heldTag = nameIndex.get(tag.tagName);
+        if (heldTag == null || !heldTag.equals(tag)) {
+            throw new IndexOutOfBoundsException("The tag is not in the list: " + tag);
+        }
+        return heldTag;
     }
 
     /**
      * Changes the old tags to a new list of tags.
      *
      * @param tags The new list of tags.
+     * @throws DuplicateTagException If {@code tags} contains duplicate tags, reporting the first duplicate.
      */
-    public void setTags(List<Tag> tags) {
+    public synchronized void setTags(List<Tag> tags) {
         requireAllNonNull(tags);
-        if (!tagsAreUnique(tags)) {
-            throw new DuplicatePersonException();
-        }
+        requireUniqueTags(tags);
 
-        tagArrayList.setAll(tags);
+        // Tags held under the same name keep their ordinal, then tags already numbered by another list keep theirs if
+        // free and below the number of tags, and the other tags are given the lowest free ordinals
+        int[] ordinals = new int[tags.size()];
+        usedOrdinals.clear();
+        for (int i = 0; i < ordinals.length; i++) {
+            Tag heldTag = nameIndex.get(tags.get(i).tagName);
+            boolean isHeld = heldTag != null && heldTag.equals(tags.get(i));
+            ordinals[i] = isHeld ? heldTag.ordinal : -1;
+            if (isHeld) {
+                usedOrdinals.set(heldTag.ordinal);
+            }
+        }
+        for (int i = 0; i < ordinals.length; i++) {
+            int ordinal = tags.get(i).ordinal;
+            if (ordinals[i] < 0 && ordinal >= 0 && ordinal < ordinals.length && !usedOrdinals.get(ordinal)) {
+                ordinals[i] = ordinal;
+                usedOrdinals.set(ordinal);
+            }
+        }
+        List<Tag> canonicalTags = new ArrayList<>(tags.size());
+        for (int i = 0; i < ordinals.length; i++) {
+            canonicalTags.add(withOrdinal(tags.get(i), ordinals[i] < 0 ? takeFreeOrdinal() : ordinals[i]));
+        }
+        nameIndex.clear();
+        canonicalTags.forEach(tag -> nameIndex.put(tag.tagName, tag));
+        tagArrayList.setAll(canonicalTags);
     }
 
     /**
@@ -105,6 +197,22 @@ public class UniqueTagList implements Iterable<Tag> {
         return tagArrayList.indexOf(tag);
     }
 
+    /**
+     * Returns the names of up to {@code limit} tags that start with {@code prefix}, ignoring case, in
+     * case-insensitive order.
+     *
+     * @param prefix The prefix of the tag names.
+     * @param limit The maximum number of tag names to return.
+     * @return The names of the tags found.
+     */
+    public synchronized List<String> findTagNamesWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return StringUtil.streamEntriesStartingWithIgnoreCase(nameIndex, prefix)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns an unmodifiable list of tags.
      *
@@ -132,16 +240,34 @@ public class UniqueTagList implements Iterable<Tag> {
     }
 
     /**
-     * Returns true if {@code tags} contains only unique tags.
+     * Returns the lowest ordinal not held by a tag in this list, and marks it as held.
+     */
+    private int takeFreeOrdinal() {
+        int ordinal = usedOrdinals.nextClearBit(0);
+        usedOrdinals.set(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns {@code tag} if it has {@code ordinal}, or an equal tag with {@code ordinal} otherwise.
+     * A tag that already has the ordinal is kept, so that the tags copied from a list numbered in the same order
+     * remain the canonical instances, and the persons holding them need not be copied.
+     */
+    private Tag withOrdinal(Tag tag, int ordinal) {
+        return tag.ordinal == ordinal ? tag : new Tag(tag.tagName, ordinal);
+    }
+
+    /**
+     * Checks that {@code tags} contains only unique tags in a single pass.
+     *
+     * @throws DuplicateTagException If {@code tags} contains duplicate tags, reporting the first duplicate.
      */
-    private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).equals(tags.get(j))) {
-                    return false;
-                }
+    private static void requireUniqueTags(List<Tag> tags) {
+        Set<Tag> seenTags = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!seenTags.add(tag)) {
+                throw new DuplicateTagException(tag);
             }
         }
-        return true;
     }
 }
@@ -0,0 +1,21 @@
+package soconnect.model.tag.exceptions;
+
+import soconnect.model.tag.Tag;
+
+/**
+ * Signals that the operation will result in duplicate {@code Tag}s.
+ */
+public class DuplicateTagException extends RuntimeException {
+    public DuplicateTagException() {
+        super("Operation would result in duplicate tags");
+    }
+
+    /**
+     * Constructs a {@code DuplicateTagException} that reports the {@code duplicate} tag.
+     *
+     * @param duplicate The {@code Tag} that collides with another {@code Tag}.
+     */
+    public DuplicateTagException(Tag duplicate) {
+        super("Operation would result in duplicate tags: " + duplicate);
+    }
+}
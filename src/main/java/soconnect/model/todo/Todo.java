@@ -2,12 +2,11 @@ package soconnect.model.todo;
 
 import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import soconnect.model.tag.Tag;
+import soconnect.model.tag.TagSet;
 
 /**
  * Represents a {@code Todo} in the SoConnect.
@@ -16,7 +15,7 @@ public class Todo {
     private final Description description;
     private final Date date;
     private final Priority priority;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     /**
      * Constructs a {@code Todo}. All parameters must be present and not null.
@@ -26,7 +25,7 @@ public class Todo {
         this.description = description;
         this.date = date;
         this.priority = priority;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Description getDescription() {
@@ -45,8 +44,8 @@ public class Todo {
      * Returns an immutable {@code Tag} set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
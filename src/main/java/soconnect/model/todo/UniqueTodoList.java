@@ -3,21 +3,28 @@ package soconnect.model.todo;
 import static java.util.Objects.requireNonNull;
 import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.SortedList;
 import soconnect.model.tag.Tag;
+import soconnect.model.tag.TagIndex;
 import soconnect.model.todo.exceptions.DuplicateTodoException;
 import soconnect.model.todo.exceptions.TodoNotFoundException;
 
 /**
  * A list of {@code Todo}s that enforces uniqueness between its elements and does not allow nulls.
+ * The position of each {@code Todo} in the backing list is recorded, keyed by identity, so that the holders of a
+ * {@code Tag} are updated without searching the list for them. A removal moves the later {@code Todo}s forward without
+ * recording their positions again, so a recorded position is at or after the actual one, and is corrected when it is
+ * next needed by stepping back over the {@code Todo}s removed before it.
  * Supports a minimal set of list operations.
  */
 public class UniqueTodoList implements Iterable<Todo> {
@@ -25,6 +32,8 @@ public class UniqueTodoList implements Iterable<Todo> {
     private final ObservableList<Todo> internalList = FXCollections.observableArrayList();
     private final ObservableList<Todo> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final TagIndex<Todo> tagIndex = new TagIndex<>(Todo::getTags);
+    private final Map<Todo, Slot> positionIndex = new IdentityHashMap<>();
 
     /**
      * Returns true if the list contains an equivalent {@code Todo} as the given argument.
@@ -44,6 +53,7 @@ public class UniqueTodoList implements Iterable<Todo> {
             throw new DuplicateTodoException();
         }
         internalList.add(toAdd);
+        tagIndex.add(toAdd);
         sort();
     }
 
@@ -64,7 +74,9 @@ public class UniqueTodoList implements Iterable<Todo> {
             throw new DuplicateTodoException();
         }
 
-        internalList.set(index, editedTodo);
+        Todo storedTarget = internalList.set(index, editedTodo);
+        positionIndex.remove(storedTarget);
+        tagIndex.replace(storedTarget, editedTodo);
         sort();
     }
 
@@ -74,14 +86,20 @@ public class UniqueTodoList implements Iterable<Todo> {
      */
     public void remove(Todo toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TodoNotFoundException();
         }
+        Todo storedTodo = internalList.remove(index);
+        positionIndex.remove(storedTodo);
+        tagIndex.remove(storedTodo);
     }
 
     public void setTodos(UniqueTodoList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        tagIndex.setAll(internalList);
+        positionIndex.clear();
         sort();
     }
 
@@ -96,6 +114,8 @@ public class UniqueTodoList implements Iterable<Todo> {
         }
 
         internalList.setAll(todos);
+        tagIndex.setAll(internalList);
+        positionIndex.clear();
         sort();
     }
 
@@ -106,17 +126,12 @@ public class UniqueTodoList implements Iterable<Todo> {
      * @param newTag The new {@code Tag}.
      */
     public void changeRelevantTodoTag(Tag oldTag, Tag newTag) {
-        for (int i = 0; i < internalList.size(); i++) {
-            Todo oldTodo = internalList.get(i);
-            List<Tag> todoTags = new ArrayList<>(oldTodo.getTags());
-            if (todoTags.contains(oldTag)) {
-                int index = todoTags.indexOf(oldTag);
-                todoTags.set(index, newTag);
-                Set<Tag> newTags = new HashSet<>(todoTags);
-                Todo newTodo = new Todo(oldTodo.getDescription(), oldTodo.getDate(), oldTodo.getPriority(), newTags);
-                internalList.set(i, newTodo);
-            }
-        }
+        updateHoldersOf(oldTag, oldTags -> {
+            Set<Tag> newTags = new HashSet<>(oldTags);
+            newTags.remove(oldTag);
+            newTags.add(newTag);
+            return newTags;
+        });
     }
 
     /**
@@ -125,25 +140,60 @@ public class UniqueTodoList implements Iterable<Todo> {
      * @param tag The {@code Tag} to be removed.
      */
     public void removeRelevantTodoTag(Tag tag) {
-        for (int i = 0; i < internalList.size(); i++) {
+        updateHoldersOf(tag, oldTags -> {
+            Set<Tag> updatedTags = new HashSet<>(oldTags);
+            updatedTags.remove(tag);
+            return updatedTags;
+        });
+    }
+
+    /**
+     * Replaces every {@code Todo} holding {@code tag} with a copy whose {@code Tag}s are given by {@code tagsUpdater}.
+     * Only the {@code Todo}s found in the tag index are rebuilt, at their recorded positions, in the order of the
+     * list.
+     *
+     * @param tag The {@code Tag} held by the {@code Todo}s to be updated.
+     * @param tagsUpdater The function that gives the new {@code Tag}s of a {@code Todo} from its old {@code Tag}s.
+     */
+    private void updateHoldersOf(Tag tag, UnaryOperator<Set<Tag>> tagsUpdater) {
+        int[] positions = tagIndex.getHolders(tag).stream()
+                .mapToInt(holder -> getPosition(positionIndex.get(holder)))
+                .sorted()
+                .toArray();
+        for (int i : positions) {
             Todo oldTodo = internalList.get(i);
-            List<Tag> todoTags = new ArrayList<>(oldTodo.getTags());
-            if (todoTags.contains(tag)) {
-                todoTags.remove(tag);
-                Set<Tag> updatedTags = new HashSet<>(todoTags);
-                Todo updatedTodo = new Todo(oldTodo.getDescription(), oldTodo.getDate(),
-                        oldTodo.getPriority(), updatedTags);
-                internalList.set(i, updatedTodo);
-            }
+            Todo updatedTodo = new Todo(oldTodo.getDescription(), oldTodo.getDate(),
+                    oldTodo.getPriority(), tagsUpdater.apply(oldTodo.getTags()));
+            positionIndex.remove(oldTodo);
+            positionIndex.put(updatedTodo, new Slot(updatedTodo, i));
+            tagIndex.replace(oldTodo, updatedTodo);
+            internalList.set(i, updatedTodo);
         }
     }
 
     /**
-     * Sort the {@code TodoList} in order of decreasing {@code Priority}.
+     * Returns the position of the {@code Todo} in {@code slot} in the backing list, stepping back from its recorded
+     * position over the {@code Todo}s removed before it since, and records it.
+     */
+    private int getPosition(Slot slot) {
+        int position = Math.min(slot.position, internalList.size() - 1);
+        while (internalList.get(position) != slot.todo) {
+            position--;
+        }
+        slot.position = position;
+        return position;
+    }
+
+    /**
+     * Sort the {@code TodoList} in order of decreasing {@code Priority}, and records the new positions.
      */
     private void sort() {
         SortedList<Todo> sorted = internalList.sorted((curr, next) -> curr.compareTo(next));
         internalList.setAll(sorted);
+        for (int i = 0; i < internalList.size(); i++) {
+            Todo todo = internalList.get(i);
+            positionIndex.computeIfAbsent(todo, unused -> new Slot(todo, 0)).position = i;
+        }
     }
 
     /**
@@ -176,4 +226,18 @@ public class UniqueTodoList implements Iterable<Todo> {
     private boolean todosAreUnique(List<Todo> todos) {
         return todos.stream().distinct().count() == (long) todos.size();
     }
+
+    /**
+     * A {@code Todo} in the list and its recorded position in the backing list, which is at or after its actual
+     * position.
+     */
+    private static class Slot {
+        private final Todo todo;
+        private int position;
+
+        private Slot(Todo todo, int position) {
+            this.todo = todo;
+            this.position = position;
+        }
+    }
 }
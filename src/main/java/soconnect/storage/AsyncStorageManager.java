@@ -0,0 +1,318 @@
+package soconnect.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import soconnect.commons.core.LogsCenter;
+import soconnect.commons.exceptions.DataConversionException;
+import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlySoConnectLists;
+import soconnect.model.ReadOnlyTodoList;
+import soconnect.model.ReadOnlyUserPrefs;
+import soconnect.model.UserPrefs;
+import soconnect.model.person.Person;
+import soconnect.model.tag.Tag;
+import soconnect.model.todo.Todo;
+
+/**
+ * Saves SoConnect and the todo list of another {@code Storage} on a background thread, so that commands do not wait
+ * for the disk.
+ * Each save takes a snapshot of the data, which replaces the snapshot still waiting to be written, if any, so that a
+ * burst of saves is written once. Each save is numbered, and the number of the last one written is kept, so that a
+ * failed save is reported by {@link #checkSaveFailure()} after the command that requested it.
+ * Everything else is done on the calling thread, once the saves requested before are written.
+ */
+public class AsyncStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PendingSave<ReadOnlySoConnectLists> soConnectSave;
+    private final PendingSave<ReadOnlyTodoList> todoListSave;
+
+    // The failure of a save written in the background, until it is reported
+    private IOException saveFailure;
+
+    /**
+     * Creates an {@code AsyncStorageManager} that saves in the background with the given {@code storage}.
+     */
+    public AsyncStorageManager(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        soConnectSave = new PendingSave<>("SoConnect", storage::saveSoConnect);
+        todoListSave = new PendingSave<>("TodoList", storage::saveTodoList);
+    }
+
+    /**
+     * Returns the number of the last save of SoConnect that was written, counting from 1.
+     */
+    public long getLastPersistedSoConnectSequence() {
+        return soConnectSave.persistedSequence;
+    }
+
+    /**
+     * Returns the number of the last save of the todo list that was written, counting from 1.
+     */
+    public long getLastPersistedTodoListSequence() {
+        return todoListSave.persistedSequence;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            // The writer runs the saves in order, so all of them are written once this task runs
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data to be saved", e);
+        } catch (ExecutionException | RejectedExecutionException e) {
+            logger.warning("Could not wait for the data to be saved: " + e);
+        }
+        checkSaveFailure();
+    }
+
+    @Override
+    public synchronized void checkSaveFailure() throws IOException {
+        if (saveFailure != null) {
+            IOException failure = saveFailure;
+            saveFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Waits for the saves requested so far to be written, then stops the background thread and shuts down the other
+     * {@code Storage}, which no save can run alongside any more.
+     */
+    @Override
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+            storage.shutdown();
+        }
+    }
+
+    private synchronized void recordSaveFailure(IOException failure) {
+        saveFailure = failure;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ SoConnect methods ==============================
+
+    @Override
+    public Path getSoConnectFilePath() {
+        return storage.getSoConnectFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlySoConnect> readSoConnect() throws DataConversionException, IOException {
+        flush();
+        return storage.readSoConnect();
+    }
+
+    @Override
+    public Optional<ReadOnlySoConnect> readSoConnect(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readSoConnect(filePath);
+    }
+
+    @Override
+    public Optional<List<Person>> readPersonsLazily() throws DataConversionException, IOException {
+        flush();
+        return storage.readPersonsLazily();
+    }
+
+    /**
+     * Saves a snapshot of {@code soConnect} in the background.
+     * Only the lists are copied on the calling thread, and the copies are written as they are, since the persons and
+     * tags are immutable.
+     */
+    @Override
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect) {
+        requireNonNull(soConnect);
+        soConnectSave.request(new SoConnectSnapshot(soConnect));
+    }
+
+    @Override
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect, Path filePath) throws IOException {
+        flush();
+        storage.saveSoConnect(soConnect, filePath);
+    }
+
+    @Override
+    public void compactSoConnect() throws IOException {
+        flush();
+        storage.compactSoConnect();
+    }
+
+    // ================ TodoList methods ==============================
+
+    @Override
+    public Path getTodoListFilePath() {
+        return storage.getTodoListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTodoList> readTodoList(ReadOnlySoConnect readOnlySoConnect) throws DataConversionException,
+            IOException {
+        flush();
+        return storage.readTodoList(readOnlySoConnect);
+    }
+
+    @Override
+    public Optional<ReadOnlyTodoList> readTodoList(ReadOnlySoConnect readOnlySoConnect, Path filePath)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readTodoList(readOnlySoConnect, filePath);
+    }
+
+    /**
+     * Saves a snapshot of {@code todoList} in the background.
+     * Only the list is copied on the calling thread, into a read-only view that is written as it is, since the todos
+     * are immutable.
+     */
+    @Override
+    public void saveTodoList(ReadOnlyTodoList todoList) {
+        requireNonNull(todoList);
+        ObservableList<Todo> todos = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(todoList.getTodoList()));
+        todoListSave.request(() -> todos);
+    }
+
+    @Override
+    public void saveTodoList(ReadOnlyTodoList todoList, Path filePath) throws IOException {
+        flush();
+        storage.saveTodoList(todoList, filePath);
+    }
+
+    @Override
+    public void compactTodoList() throws IOException {
+        flush();
+        storage.compactTodoList();
+    }
+
+    /**
+     * Saves data to a file.
+     */
+    @FunctionalInterface
+    private interface Saver<T> {
+        void save(T data) throws IOException;
+    }
+
+    /**
+     * The latest snapshot of the data of a file that is waiting to be written, and the numbers of the saves.
+     */
+    private class PendingSave<T> {
+        private final String dataName;
+        private final Saver<T> saver;
+
+        private T pendingSnapshot;
+        private long requestedSequence = 0;
+        private volatile long persistedSequence = 0;
+
+        PendingSave(String dataName, Saver<T> saver) {
+            this.dataName = dataName;
+            this.saver = saver;
+        }
+
+        /**
+         * Requests {@code snapshot} to be written, replacing the snapshot still waiting to be written.
+         * The writer is only given a task when no snapshot was waiting, since the waiting task writes the latest one.
+         */
+        synchronized void request(T snapshot) {
+            boolean isWriteScheduled = pendingSnapshot != null;
+            pendingSnapshot = snapshot;
+            requestedSequence++;
+            if (!isWriteScheduled) {
+                writer.execute(this::write);
+            }
+        }
+
+        private void write() {
+            T snapshot;
+            long sequence;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                sequence = requestedSequence;
+                pendingSnapshot = null;
+            }
+
+            try {
+                saver.save(snapshot);
+                persistedSequence = sequence;
+            } catch (IOException e) {
+                logFailure(sequence, e);
+                recordSaveFailure(e);
+            } catch (RuntimeException e) {
+                // Reported like a failed write, rather than lost in the writer thread
+                logFailure(sequence, e);
+                recordSaveFailure(new IOException("Failed to save " + dataName + ": " + e, e));
+            }
+        }
+
+        private void logFailure(long sequence, Exception failure) {
+            logger.warning("Failed to save " + dataName + " #" + sequence + ", last saved #" + persistedSequence
+                    + ": " + failure);
+        }
+    }
+
+    /**
+     * Copies of the lists of a SoConnect, which is all that the storages read to write it.
+     * Unlike a copied {@code SoConnect}, it builds none of the indexes of the lists.
+     */
+    private static class SoConnectSnapshot implements ReadOnlySoConnectLists {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Tag> tags;
+
+        SoConnectSnapshot(ReadOnlySoConnectLists soConnect) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(soConnect.getPersonList()));
+            tags = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(soConnect.getTagList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Tag> getTagList() {
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package soconnect.storage;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import soconnect.commons.core.LogsCenter;
+import soconnect.commons.exceptions.DataConversionException;
+import soconnect.commons.exceptions.IllegalValueException;
+import soconnect.commons.util.FileUtil;
+import soconnect.model.tag.Tag;
+
+/**
+ * A binary data file, which starts with a header made of the kind of data in the file and the version of the format.
+ * Strings are written as their length in bytes followed by their UTF-8 bytes, and tags are written once in a
+ * dictionary at the start of the data, then referred to by their position in it.
+ * Since version 2, the rows at the end of the data are followed by an index of their positions in the file and the
+ * position of that index, so that a row can be read on its own without reading the rows before it.
+ */
+class BinaryDataFile {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    /** The version of the format written, which is the latest version that can be read. */
+    public static final int VERSION = 2;
+
+    public static final String MESSAGE_WRONG_KIND = "Binary file does not hold %1$s data: %2$s";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary file has unsupported version %1$d: %2$s";
+    public static final String MESSAGE_CORRUPTED = "Binary file is corrupted: %1$s";
+
+    /** The first version whose rows are followed by an index of their positions. */
+    private static final int FIRST_INDEXED_VERSION = 2;
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryDataFile.class);
+
+    private BinaryDataFile() {}
+
+    /**
+     * Returns true if {@code filePath} names a binary data file.
+     */
+    static boolean isBinaryFile(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.getFileName() != null
+                && filePath.getFileName().toString().toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Writes a binary data file of the given {@code kind} to {@code filePath}, with the data written by
+     * {@code writer}. The file is replaced as a whole, as by {@link FileUtil#writeToFile}.
+     */
+    static void write(Path filePath, int kind, DataWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+        FileUtil.writeToFileWithBackup(filePath, out -> {
+            Output output = new Output(new DataOutputStream(out));
+            output.data.writeInt(kind);
+            output.data.writeInt(VERSION);
+            writer.write(output);
+            output.data.flush();
+        });
+    }
+
+    /**
+     * Reads the binary data file of the given {@code kind} at {@code filePath} with {@code reader}, or returns
+     * {@code Optional.empty()} if the file is not found.
+     *
+     * @param dataName The name of the data in the file, for error messages.
+     * @throws DataConversionException If the file is not a binary data file of the given kind and a supported
+     *     version, or its data is not in the expected format.
+     */
+    static <T> Optional<T> read(Path filePath, int kind, String dataName, DataReader<T> reader)
+            throws DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            Input input = new Input(data, Files.size(filePath), filePath, readVersion(data, kind, dataName, filePath));
+            T result = reader.read(input);
+            if (data.read() != -1) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, filePath));
+            }
+            return Optional.of(result);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns a view of the rows of the binary data file of the given {@code kind} at {@code filePath}, in which each
+     * row is read from the file and decoded by {@code rowReader} only when it is accessed, or returns
+     * {@code Optional.empty()} if the file is not found or is of a version without an index of its rows.
+     * A row that cannot be read is returned as null, as the view is read long after it is returned, and so is every
+     * row once the file has been replaced by one of another size.
+     *
+     * @param headReader Reads the data before the rows, and returns the number of rows.
+     * @throws DataConversionException If the file is not a binary data file of the given kind and a supported
+     *     version, or the data before the rows or the index of the rows is not in the expected format.
+     */
+    static <T> Optional<List<T>> readRowsLazily(Path filePath, int kind, String dataName,
+            DataReader<Integer> headReader, DataReader<T> rowReader) throws DataConversionException {
+        requireNonNull(filePath);
+        requireAllNonNull(headReader, rowReader);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        // The channel is only held while the head is read, so that the file can still be replaced when it is saved
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            DataInputStream data = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            int version = readVersion(data, kind, dataName, filePath);
+            if (version < FIRST_INDEXED_VERSION) {
+                logger.info("Binary file " + filePath + " has no index of its rows");
+                return Optional.empty();
+            }
+
+            Input input = new Input(data, fileSize, filePath, version);
+            int rowCount = headReader.read(input);
+            long indexPosition = readBytes(channel, fileSize - Integer.BYTES, Integer.BYTES).getInt();
+            if (indexPosition < HEADER_SIZE || indexPosition + (long) Integer.BYTES * (rowCount + 1L) != fileSize) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, filePath));
+            }
+            return Optional.of(new LazyRows<>(filePath, fileSize, input.tagNames, version, rowCount, indexPosition,
+                    rowReader));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the header of a binary data file, and returns the version of its format.
+     */
+    private static int readVersion(DataInputStream data, int kind, String dataName, Path filePath)
+            throws IOException, IllegalValueException {
+        if (data.readInt() != kind) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_KIND, dataName, filePath));
+        }
+        int version = data.readInt();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, filePath));
+        }
+        return version;
+    }
+
+    /**
+     * Reads {@code length} bytes at {@code position} of the file open in {@code channel}.
+     */
+    private static ByteBuffer readBytes(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, position + bytes.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return bytes.flip();
+    }
+
+    /**
+     * Writes the data of a binary data file after its header.
+     */
+    @FunctionalInterface
+    interface DataWriter {
+        void write(Output output) throws IOException;
+    }
+
+    /**
+     * Reads the data of a binary data file after its header.
+     */
+    @FunctionalInterface
+    interface DataReader<T> {
+        T read(Input input) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a row of a binary data file.
+     */
+    @FunctionalInterface
+    interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+
+    /**
+     * The rows of a binary data file, each of which is read from the file when it is accessed.
+     * The file is opened for each row, so that no file is held open by the view.
+     */
+    private static class LazyRows<T> extends AbstractList<T> {
+        private final Path filePath;
+        private final long fileSize;
+        private final List<String> tagNames;
+        private final int version;
+        private final int rowCount;
+        private final long indexPosition;
+        private final DataReader<T> rowReader;
+
+        private LazyRows(Path filePath, long fileSize, List<String> tagNames, int version, int rowCount,
+                long indexPosition, DataReader<T> rowReader) {
+            this.filePath = filePath;
+            this.fileSize = fileSize;
+            this.tagNames = tagNames;
+            this.version = version;
+            this.rowCount = rowCount;
+            this.indexPosition = indexPosition;
+            this.rowReader = rowReader;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, rowCount);
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                if (channel.size() != fileSize) {
+                    throw new IllegalValueException("Binary file has been replaced: " + filePath);
+                }
+                boolean isLastRow = index == rowCount - 1;
+                ByteBuffer positions = readBytes(channel, indexPosition + (long) Integer.BYTES * index,
+                        (isLastRow ? 1 : 2) * Integer.BYTES);
+                long start = positions.getInt();
+                long end = isLastRow ? indexPosition : positions.getInt();
+                if (start < HEADER_SIZE || start > end || end > indexPosition) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, filePath));
+                }
+
+                byte[] row = readBytes(channel, start, (int) (end - start)).array();
+                Input input = new Input(new DataInputStream(new ByteArrayInputStream(row)), row.length, filePath,
+                        version);
+                input.tagNames = tagNames;
+                T value = rowReader.read(input);
+                if (input.data.read() != -1) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, filePath));
+                }
+                return value;
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Error reading row " + index + " of binary file " + filePath + ": " + e);
+                return null;
+            }
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    }
+
+    /**
+     * Writes the values of a binary data file.
+     */
+    static class Output {
+        private final DataOutputStream data;
+        private final Map<String, Integer> tagIds = new HashMap<>();
+
+        private Output(DataOutputStream data) {
+            this.data = data;
+        }
+
+        void writeInt(int value) throws IOException {
+            data.writeInt(value);
+        }
+
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(bytes.length);
+            data.write(bytes);
+        }
+
+        /**
+         * Writes the number of {@code rows}, then each row with {@code rowWriter}, then the index of the positions of
+         * the rows in the file and the position of that index.
+         * The rows must be the last data of the file, as the index is found from the end of the file.
+         */
+        <T> void writeRows(Collection<T> rows, RowWriter<T> rowWriter) throws IOException {
+            data.writeInt(rows.size());
+            int[] positions = new int[rows.size()];
+            int i = 0;
+            for (T row : rows) {
+                positions[i++] = getPosition();
+                rowWriter.write(row);
+            }
+
+            int indexPosition = getPosition();
+            for (int position : positions) {
+                data.writeInt(position);
+            }
+            data.writeInt(indexPosition);
+        }
+
+        /**
+         * Returns the position in the file of the next value written, which includes the header.
+         *
+         * @throws IOException If the file has grown past the positions that the index can hold.
+         */
+        private int getPosition() throws IOException {
+            // DataOutputStream stops counting at Integer.MAX_VALUE
+            if (data.size() == Integer.MAX_VALUE) {
+                throw new IOException("Binary file is too large to be indexed");
+            }
+            return data.size();
+        }
+
+        /**
+         * Writes the dictionary of the distinct {@code tags}, which the tags written afterwards refer to.
+         */
+        void writeTagDictionary(Stream<Tag> tags) throws IOException {
+            tagIds.clear();
+            tags.forEach(tag -> tagIds.putIfAbsent(tag.tagName, tagIds.size()));
+            data.writeInt(tagIds.size());
+            String[] names = new String[tagIds.size()];
+            tagIds.forEach((name, id) -> names[id] = name);
+            for (String name : names) {
+                writeString(name);
+            }
+        }
+
+        /**
+         * Writes {@code tags} as their positions in the dictionary.
+         *
+         * @throws IllegalArgumentException If a tag is not in the dictionary.
+         */
+        void writeTags(Collection<Tag> tags) throws IOException {
+            data.writeInt(tags.size());
+            for (Tag tag : tags) {
+                Integer id = tagIds.get(tag.tagName);
+                if (id == null) {
+                    throw new IllegalArgumentException("Tag is not in the dictionary: " + tag);
+                }
+                data.writeInt(id);
+            }
+        }
+    }
+
+    /**
+     * Reads the values of a binary data file.
+     */
+    static class Input {
+        private final DataInputStream data;
+        private final long fileSize;
+        private final Path filePath;
+        private final int version;
+        private List<String> tagNames = new ArrayList<>();
+
+        private Input(DataInputStream data, long fileSize, Path filePath, int version) {
+            this.data = data;
+            this.fileSize = fileSize;
+            this.filePath = filePath;
+            this.version = version;
+        }
+
+        /**
+         * Reads the number of the values that follow.
+         *
+         * @throws IllegalValueException If the number cannot fit in the file.
+         */
+        int readCount() throws IOException, IllegalValueException {
+            return readLength();
+        }
+
+        String readString() throws IOException, IllegalValueException {
+            byte[] bytes = new byte[readLength()];
+            data.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads past the index that follows the {@code rowCount} rows just read, if the version of the file has one.
+         */
+        void skipRowIndex(int rowCount) throws IOException {
+            if (version < FIRST_INDEXED_VERSION) {
+                return;
+            }
+            // The positions of the rows and the position of the index
+            for (int i = 0; i <= rowCount; i++) {
+                data.readInt();
+            }
+        }
+
+        /**
+         * Reads the dictionary of tag names, which the tags read afterwards refer to.
+         */
+        void readTagDictionary() throws IOException, IllegalValueException {
+            int count = readCount();
+            tagNames = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                tagNames.add(readString());
+            }
+        }
+
+        /**
+         * Reads the names of tags written as their positions in the dictionary.
+         *
+         * @throws IllegalValueException If a position is not in the dictionary.
+         */
+        List<String> readTagNames() throws IOException, IllegalValueException {
+            int count = readCount();
+            List<String> names = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int id = data.readInt();
+                if (id < 0 || id >= tagNames.size()) {
+                    throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, filePath));
+                }
+                names.add(tagNames.get(id));
+            }
+            return names;
+        }
+
+        private int readLength() throws IOException, IllegalValueException {
+            int length = data.readInt();
+            if (length < 0 || length > fileSize) {
+                throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, filePath));
+            }
+            return length;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package soconnect.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import soconnect.commons.exceptions.DataConversionException;
+import soconnect.commons.util.Interner;
+import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlySoConnectLists;
+import soconnect.model.SoConnect;
+import soconnect.model.person.Person;
+import soconnect.model.tag.Tag;
+
+/**
+ * A class to access SoConnect data stored as a binary file on the hard disk.
+ * Every tag name is written once, in a dictionary that the tag list and the tags of the persons refer to.
+ * The data read is checked in the same way as the data of a json file, one person at a time as it is read.
+ * The persons can also be read lazily, one at a time as they are accessed, through the index that follows them.
+ */
+public class BinarySoConnectStorage implements SoConnectStorage {
+
+    /** The kind of data in the header of the file, which reads "SOCN". */
+    static final int KIND = 0x534F434E;
+
+    private final Path filePath;
+
+    public BinarySoConnectStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getSoConnectFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySoConnect> readSoConnect() throws DataConversionException {
+        return readSoConnect(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSoConnect()}.
+     *
+     * @param filePath Location of the data. Cannot be null.
+     * @throws DataConversionException If the file is not in the correct format.
+     */
+    public Optional<ReadOnlySoConnect> readSoConnect(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return BinaryDataFile.read(filePath, KIND, "SoConnect", input -> {
+            SoConnect soConnect = new SoConnect();
+            Map<Tag, Tag> tagDictionary = new HashMap<>();
+            Interner<String> addressValues = new Interner<>();
+            input.readTagDictionary();
+            for (JsonAdaptedTag tag : toAdaptedTags(input.readTagNames())) {
+                JsonSerializableSoConnect.addTag(soConnect, tag.toModelType(), tagDictionary);
+            }
+
+            // Each person is converted as soon as it is read, so that no copy of the whole book is held
+            int personCount = input.readCount();
+            for (int i = 0; i < personCount; i++) {
+                JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(input.readString(), input.readString(),
+                        input.readString(), input.readString(), toAdaptedTags(input.readTagNames()));
+                Person person = adaptedPerson.toModelType(addressValues, tagDictionary);
+                JsonSerializableSoConnect.addPerson(soConnect, person, tagDictionary);
+            }
+            input.skipRowIndex(personCount);
+            return soConnect;
+        });
+    }
+
+    @Override
+    public Optional<List<Person>> readPersonsLazily() throws DataConversionException {
+        return BinaryDataFile.readRowsLazily(filePath, KIND, "SoConnect", input -> {
+            input.readTagDictionary();
+            input.readTagNames();
+            return input.readCount();
+        }, input -> new JsonAdaptedPerson(input.readString(), input.readString(), input.readString(),
+                input.readString(), toAdaptedTags(input.readTagNames())).toModelType());
+    }
+
+    @Override
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect) throws IOException {
+        saveSoConnect(soConnect, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSoConnect(ReadOnlySoConnectLists)}.
+     *
+     * @param filePath Location of the data. Cannot be null.
+     */
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect, Path filePath) throws IOException {
+        requireNonNull(soConnect);
+        requireNonNull(filePath);
+
+        List<Person> persons = soConnect.getPersonList();
+        BinaryDataFile.write(filePath, KIND, output -> {
+            output.writeTagDictionary(Stream.concat(soConnect.getTagList().stream(),
+                    persons.stream().flatMap(person -> person.getTags().stream())));
+            output.writeTags(soConnect.getTagList());
+
+            output.writeRows(persons, person -> {
+                output.writeString(person.getName().fullName);
+                output.writeString(person.getPhone().value);
+                output.writeString(person.getEmail().value);
+                output.writeString(person.getAddress().value);
+                output.writeTags(person.getTags());
+            });
+        });
+    }
+
+    /**
+     * Returns the Jackson-friendly versions of the tags named {@code tagNames}, which are checked in the same way.
+     */
+    static List<JsonAdaptedTag> toAdaptedTags(List<String> tagNames) {
+        return tagNames.stream().map(JsonAdaptedTag::new).collect(Collectors.toList());
+    }
+
+}
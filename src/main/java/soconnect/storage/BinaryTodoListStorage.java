@@ -0,0 +1,84 @@
+package soconnect.storage;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import soconnect.commons.exceptions.DataConversionException;
+import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlyTodoList;
+import soconnect.model.todo.Date;
+import soconnect.model.todo.Todo;
+
+/**
+ * A class to access {@code TodoList} data stored as a binary file on the hard disk.
+ * Every tag name is written once, in a dictionary that the tags of the todos refer to.
+ * The data read is checked in the same way as the data of a json file.
+ */
+public class BinaryTodoListStorage implements TodoListStorage {
+
+    /** The kind of data in the header of the file, which reads "SOTD". */
+    static final int KIND = 0x534F5444;
+
+    private final Path filePath;
+
+    public BinaryTodoListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTodoListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTodoList> readTodoList(ReadOnlySoConnect readOnlySoConnect) throws DataConversionException {
+        return readTodoList(readOnlySoConnect, filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTodoList> readTodoList(ReadOnlySoConnect readOnlySoConnect, Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        return BinaryDataFile.read(filePath, KIND, "TodoList", input -> {
+            input.readTagDictionary();
+
+            int todoCount = input.readCount();
+            List<JsonAdaptedTodo> todos = new ArrayList<>();
+            for (int i = 0; i < todoCount; i++) {
+                todos.add(new JsonAdaptedTodo(input.readString(), input.readString(), input.readString(),
+                        BinarySoConnectStorage.toAdaptedTags(input.readTagNames())));
+            }
+            input.skipRowIndex(todoCount);
+            return new JsonSerializableTodoList(todos).toModelType(readOnlySoConnect);
+        });
+    }
+
+    @Override
+    public void saveTodoList(ReadOnlyTodoList todoList) throws IOException {
+        saveTodoList(todoList, filePath);
+    }
+
+    @Override
+    public void saveTodoList(ReadOnlyTodoList todoList, Path filePath) throws IOException {
+        requireAllNonNull(todoList, filePath);
+
+        List<Todo> todos = todoList.getTodoList();
+        BinaryDataFile.write(filePath, KIND, output -> {
+            output.writeTagDictionary(todos.stream().flatMap(todo -> todo.getTags().stream()));
+
+            output.writeRows(todos, todo -> {
+                output.writeString(todo.getDescription().value);
+                output.writeString(todo.getDate().date.format(Date.DATE_FORMATTER));
+                output.writeString(todo.getPriority().priority);
+                output.writeTags(todo.getTags());
+            });
+        });
+    }
+
+}
@@ -0,0 +1,83 @@
+package soconnect.storage;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import soconnect.commons.exceptions.DataConversionException;
+import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlyTodoList;
+import soconnect.model.SoConnect;
+
+/**
+ * The formats of the data files, which are chosen by the extension of their paths.
+ * Files with the {@code .bin} extension are binary, and all others are json.
+ */
+public enum DataFileFormat {
+    JSON, BINARY;
+
+    /**
+     * Returns the format of the data file at {@code filePath}.
+     */
+    public static DataFileFormat of(Path filePath) {
+        requireNonNull(filePath);
+        return BinaryDataFile.isBinaryFile(filePath) ? BINARY : JSON;
+    }
+
+    /**
+     * Returns a storage for the SoConnect data file in this format at {@code filePath}.
+     * Json files are journaled.
+     */
+    public SoConnectStorage createSoConnectStorage(Path filePath) {
+        requireNonNull(filePath);
+        return this == BINARY ? new BinarySoConnectStorage(filePath) : new JsonSoConnectStorage(filePath, true);
+    }
+
+    /**
+     * Returns a storage for the todo list data file in this format at {@code filePath}.
+     * Json files are journaled.
+     */
+    public TodoListStorage createTodoListStorage(Path filePath) {
+        requireNonNull(filePath);
+        return this == BINARY ? new BinaryTodoListStorage(filePath) : new JsonTodoListStorage(filePath, true);
+    }
+
+    /**
+     * Converts the SoConnect data file at {@code source} into a data file at {@code target}, each in the format of
+     * its path. All the data is kept.
+     *
+     * @return False if there is no file at {@code source}.
+     * @throws DataConversionException If the source file is not in the expected format.
+     * @throws IOException If there was an error during writing to the target file.
+     */
+    public static boolean convertSoConnect(Path source, Path target) throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        Optional<ReadOnlySoConnect> soConnect = of(source).createSoConnectStorage(source).readSoConnect();
+        if (soConnect.isEmpty()) {
+            return false;
+        }
+        of(target).createSoConnectStorage(target).saveSoConnect(soConnect.get());
+        return true;
+    }
+
+    /**
+     * Converts the todo list data file at {@code source} into a data file at {@code target}, each in the format of
+     * its path. All the data is kept, since the tags of the todos are stored with them.
+     *
+     * @return False if there is no file at {@code source}.
+     * @throws DataConversionException If the source file is not in the expected format.
+     * @throws IOException If there was an error during writing to the target file.
+     */
+    public static boolean convertTodoList(Path source, Path target) throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+        Optional<ReadOnlyTodoList> todoList = of(source).createTodoListStorage(source).readTodoList(new SoConnect());
+        if (todoList.isEmpty()) {
+            return false;
+        }
+        of(target).createTodoListStorage(target).saveTodoList(todoList.get());
+        return true;
+    }
+}
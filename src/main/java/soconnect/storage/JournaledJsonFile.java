@@ -0,0 +1,480 @@
+package soconnect.storage;
+
+import static java.util.Objects.requireNonNull;
+import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import soconnect.commons.core.LogsCenter;
+import soconnect.commons.exceptions.DataConversionException;
+import soconnect.commons.exceptions.IllegalValueException;
+import soconnect.commons.util.FileUtil;
+import soconnect.commons.util.JsonUtil;
+
+/**
+ * A json data file made of lists, whose changes can be saved by appending them to a journal beside the file instead
+ * of rewriting the whole file.
+ * The file is written and read one item at a time with Jackson's streaming generator and parser, so that neither
+ * the whole file nor a Jackson-friendly copy of all the data is built in memory to write it.
+ * Each save compares the lists with those last read or saved, appends one compact record per changed list, which
+ * replaces a range of the list with new items, and syncs the journal to the disk. The data file is rewritten as a
+ * snapshot, and the journal started again, once the journal is full or a change is too large to be worth recording.
+ * The journal starts with the checksum of the snapshot that its records apply to, so that a journal left behind by
+ * an interrupted rewrite is ignored instead of being applied twice. An ignored journal is set aside rather than
+ * started again, so that its records are kept for inspection. The journal is compacted into the data file when
+ * the storage is shut down, so that the next start does not replay it.
+ */
+class JournaledJsonFile {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal contains an invalid record: %1$s";
+
+    /** The number of records after which the data file is rewritten as a snapshot. */
+    static final int MAX_JOURNAL_RECORDS = 100;
+
+    /** The number of new items in a change above which the data file is rewritten as a snapshot instead. */
+    static final int MAX_RECORD_ITEMS = 50;
+
+    // The number of records in a journal that must be started again before it is appended to
+    private static final int NO_JOURNAL = -1;
+
+    private static final String HEADER_SNAPSHOT = "snapshot";
+    private static final String RECORD_LIST = "list";
+    private static final String RECORD_INDEX = "index";
+    private static final String RECORD_REMOVED = "removed";
+    private static final String RECORD_ADDED = "added";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledJsonFile.class);
+
+    private final boolean isJournaled;
+    private final Map<String, ListFormat> formats = new LinkedHashMap<>();
+
+    // The data file that was last read or saved, the lists it holds, and the state of its journal
+    private Path knownFilePath;
+    private Map<String, List<?>> savedLists;
+    private long snapshotChecksum;
+    private int journalRecordCount = NO_JOURNAL;
+
+    /**
+     * Constructs a {@code JournaledJsonFile} for a json data file with the given lists, written in the given order.
+     *
+     * @param isJournaled Whether changes are appended to the journal. Otherwise, every save rewrites the data file.
+     * @param formats The names of the lists and the Jackson-friendly versions of their items.
+     */
+    JournaledJsonFile(boolean isJournaled, ListFormat... formats) {
+        requireAllNonNull((Object[]) formats);
+        this.isJournaled = isJournaled;
+        for (ListFormat format : formats) {
+            this.formats.put(format.name, format);
+        }
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the lists of Jackson-friendly items in the data file at {@code filePath}, with the records of its journal
+     * applied, or returns {@code Optional.empty()} if the file is not found.
+     * A list missing from the file is read as empty.
+     * Call {@link #setReadLists(Map)} once the data is converted, so that the next save only appends the changes.
+     *
+     * @param filePath Cannot be null.
+     * @throws DataConversionException If the data file or its journal is not in the expected format.
+     */
+    Optional<Map<String, List<Object>>> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        knownFilePath = null;
+        savedLists = null;
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            CRC32 crc = new CRC32();
+            Map<String, List<Object>> lists = readSnapshot(filePath, crc);
+            long checksum = crc.getValue();
+            int recordCount = replayJournal(getJournalPath(filePath), checksum, lists);
+
+            knownFilePath = filePath;
+            snapshotChecksum = checksum;
+            journalRecordCount = recordCount;
+            return Optional.of(lists);
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the items of the list named {@code name} in {@code lists}, which were read as {@code jsonItemClass}.
+     */
+    static <T> List<T> getItems(Map<String, List<Object>> lists, String name, Class<T> jsonItemClass) {
+        return lists.get(name).stream().map(jsonItemClass::cast).collect(Collectors.toList());
+    }
+
+    /**
+     * Remembers {@code lists} as the lists of the data file last read, for the next save to be compared with.
+     *
+     * @param lists The lists converted from the data file, by name.
+     */
+    void setReadLists(Map<String, ? extends List<?>> lists) {
+        requireNonNull(lists);
+        if (knownFilePath != null) {
+            savedLists = copyLists(lists);
+        }
+    }
+
+    /**
+     * Saves {@code lists} to the data file at {@code filePath}, by appending their changes to the journal if the
+     * lists last read from or saved to the file are known, or by rewriting the file otherwise.
+     *
+     * @param filePath Cannot be null.
+     * @param lists The lists of the data, by name.
+     * @throws IOException If there was an error during writing to the files.
+     */
+    void save(Path filePath, Map<String, ? extends List<?>> lists) throws IOException {
+        requireAllNonNull(filePath, lists);
+        List<Map<String, Object>> records = isJournaled && filePath.equals(knownFilePath) && savedLists != null
+                ? findChanges(lists)
+                : null;
+
+        try {
+            if (records == null || journalRecordCount + records.size() > MAX_JOURNAL_RECORDS) {
+                writeSnapshot(filePath, lists);
+            } else if (!records.isEmpty()) {
+                appendToJournal(getJournalPath(filePath), records);
+            }
+        } catch (IOException e) {
+            // The files may be partly written, so the next save rewrites the data file
+            savedLists = null;
+            throw e;
+        }
+        knownFilePath = filePath;
+        savedLists = copyLists(lists);
+    }
+
+    /**
+     * Rewrites the data file last read or saved as a snapshot, if its journal holds any records, so that they are not
+     * replayed on the next read. Called once no more changes will be saved.
+     *
+     * @throws IOException If there was an error during writing to the files.
+     */
+    void compact() throws IOException {
+        if (knownFilePath == null || savedLists == null || journalRecordCount <= 0) {
+            return;
+        }
+        try {
+            writeSnapshot(knownFilePath, savedLists);
+        } catch (IOException e) {
+            // The files may be partly written, so the next save rewrites the data file
+            savedLists = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the records of the changes from the saved lists to {@code lists}, or null if a change has too many
+     * new items to be worth recording.
+     * Each record replaces the range of a list between the items common to the start and end of both versions.
+     */
+    private List<Map<String, Object>> findChanges(Map<String, ? extends List<?>> lists) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (Map.Entry<String, ? extends List<?>> entry : lists.entrySet()) {
+            List<?> saved = savedLists.get(entry.getKey());
+            List<?> current = entry.getValue();
+            if (saved == null) {
+                return null;
+            }
+
+            int start = 0;
+            while (start < saved.size() && start < current.size() && saved.get(start).equals(current.get(start))) {
+                start++;
+            }
+            int savedEnd = saved.size();
+            int currentEnd = current.size();
+            while (savedEnd > start && currentEnd > start
+                    && saved.get(savedEnd - 1).equals(current.get(currentEnd - 1))) {
+                savedEnd--;
+                currentEnd--;
+            }
+            if (savedEnd == start && currentEnd == start) {
+                continue;
+            }
+            if (currentEnd - start > MAX_RECORD_ITEMS) {
+                return null;
+            }
+
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put(RECORD_LIST, entry.getKey());
+            record.put(RECORD_INDEX, start);
+            record.put(RECORD_REMOVED, savedEnd - start);
+            record.put(RECORD_ADDED, current.subList(start, currentEnd).stream()
+                    .map(formats.get(entry.getKey()).adapter)
+                    .collect(Collectors.toList()));
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal and syncs it to the disk, starting the journal again if needed.
+     */
+    private void appendToJournal(Path journalPath, List<Map<String, Object>> records) throws IOException {
+        boolean isNewJournal = journalRecordCount == NO_JOURNAL;
+        StringBuilder lines = new StringBuilder();
+        if (isNewJournal) {
+            lines.append(JsonUtil.toCompactJsonString(Map.of(HEADER_SNAPSHOT, snapshotChecksum))).append('\n');
+        }
+        for (Map<String, Object> record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        StandardOpenOption mode = isNewJournal ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalRecordCount = (isNewJournal ? 0 : journalRecordCount) + records.size();
+    }
+
+    /**
+     * Rewrites the data file with {@code lists} and deletes its journal, whose records the snapshot includes.
+     * Each item is converted into its Jackson-friendly version just before it is written.
+     */
+    private void writeSnapshot(Path filePath, Map<String, ? extends List<?>> lists) throws IOException {
+        CRC32 crc = new CRC32();
+        FileUtil.writeToFileWithBackup(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(new CheckedOutputStream(out, crc))) {
+                generator.writeStartObject();
+                for (ListFormat format : formats.values()) {
+                    generator.writeArrayFieldStart(format.name);
+                    for (Object item : lists.get(format.name)) {
+                        JsonUtil.writeJsonValue(generator, format.adapter.apply(item));
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndObject();
+            }
+        });
+        Files.deleteIfExists(getJournalPath(filePath));
+        snapshotChecksum = crc.getValue();
+        journalRecordCount = NO_JOURNAL;
+    }
+
+    /**
+     * Reads the lists of the data file at {@code filePath} one item at a time, and adds every byte of the file to
+     * {@code crc}. Fields that are not lists of this file are skipped.
+     *
+     * @throws DataConversionException If the data file is not a json object.
+     */
+    private Map<String, List<Object>> readSnapshot(Path filePath, CRC32 crc)
+            throws IOException, DataConversionException {
+        Map<String, List<Object>> lists = new HashMap<>();
+        formats.keySet().forEach(name -> lists.put(name, new ArrayList<>()));
+
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(filePath)), crc);
+                JsonParser parser = JsonUtil.createJsonParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DataConversionException(new IllegalValueException("Json file has no object: " + filePath));
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                ListFormat format = formats.get(parser.getCurrentName());
+                if (parser.nextToken() != JsonToken.START_ARRAY || format == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                List<Object> items = lists.get(format.name);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    items.add(JsonUtil.readJsonValue(parser, format.jsonItemClass));
+                }
+            }
+
+            // The parser stops at the end of the object, so the rest of the file is read for the checksum
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return lists;
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code lists}, if the journal belongs to the
+     * snapshot with {@code checksum}, and returns the number of records in the journal.
+     * A journal of another snapshot is set aside, so that it is not truncated by the next save.
+     *
+     * @throws DataConversionException If a record is not in the expected format.
+     */
+    private int replayJournal(Path journalPath, long checksum, Map<String, List<Object>> lists)
+            throws IOException, DataConversionException {
+        if (!Files.exists(journalPath)) {
+            return NO_JOURNAL;
+        }
+        List<ByteBuffer> lines = readLines(journalPath);
+        if (lines.isEmpty()) {
+            return NO_JOURNAL;
+        }
+        if (readSnapshotChecksum(lines.get(0)) != checksum) {
+            setAsideJournal(journalPath);
+            return NO_JOURNAL;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonNode record;
+            try {
+                record = JsonUtil.fromJsonStringToTree(decode(lines.get(i)));
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                // The last record was cut off while being appended, so the journal must not be appended to
+                logger.warning("Ignoring incomplete last record of journal: " + journalPath);
+                return MAX_JOURNAL_RECORDS;
+            }
+            applyRecord(record, lists);
+        }
+        return lines.size() - 1;
+    }
+
+    /**
+     * Sets aside the journal at {@code journalPath}, which does not belong to the snapshot read, and warns about it.
+     * The journal is left in place if it cannot be renamed, as the data file can still be read without it.
+     */
+    private static void setAsideJournal(Path journalPath) {
+        try {
+            Path setAsidePath = FileUtil.setAside(journalPath);
+            logger.warning("Ignoring journal of another snapshot, set aside as: " + setAsidePath);
+        } catch (IOException e) {
+            logger.warning("Ignoring journal of another snapshot, which could not be set aside: " + journalPath
+                    + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the lines of the file at {@code filePath} as undecoded bytes, so that a line cut off in the middle of a
+     * character only fails when that line is decoded.
+     */
+    private static List<ByteBuffer> readLines(Path filePath) throws IOException {
+        byte[] bytes = Files.readAllBytes(filePath);
+        List<ByteBuffer> lines = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                lines.add(ByteBuffer.wrap(bytes, lineStart, i - lineStart));
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < bytes.length) {
+            lines.add(ByteBuffer.wrap(bytes, lineStart, bytes.length - lineStart));
+        }
+        return lines;
+    }
+
+    /**
+     * Decodes a line read by {@link #readLines(Path)}.
+     *
+     * @throws CharacterCodingException If the line is not valid UTF-8.
+     */
+    private static String decode(ByteBuffer line) throws CharacterCodingException {
+        return StandardCharsets.UTF_8.newDecoder().decode(line).toString();
+    }
+
+    private static long readSnapshotChecksum(ByteBuffer header) {
+        try {
+            JsonNode headerNode = JsonUtil.fromJsonStringToTree(decode(header));
+            return headerNode == null ? NO_JOURNAL : headerNode.path(HEADER_SNAPSHOT).asLong(NO_JOURNAL);
+        } catch (IOException e) {
+            return NO_JOURNAL;
+        }
+    }
+
+    private void applyRecord(JsonNode record, Map<String, List<Object>> lists)
+            throws IOException, DataConversionException {
+        ListFormat format = record == null ? null : formats.get(record.path(RECORD_LIST).asText());
+        if (format == null) {
+            throw new DataConversionException(
+                    new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record)));
+        }
+        List<Object> items = lists.get(format.name);
+        int index = record.path(RECORD_INDEX).asInt(-1);
+        int removed = record.path(RECORD_REMOVED).asInt(-1);
+        JsonNode added = record.path(RECORD_ADDED);
+        if (index < 0 || removed < 0 || index + removed > items.size() || !added.isArray()) {
+            throw new DataConversionException(
+                    new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, record)));
+        }
+
+        List<Object> addedItems = new ArrayList<>();
+        for (JsonNode item : added) {
+            addedItems.add(JsonUtil.fromJsonTree(item, format.jsonItemClass));
+        }
+        items.subList(index, index + removed).clear();
+        items.addAll(index, addedItems);
+    }
+
+    private static Map<String, List<?>> copyLists(Map<String, ? extends List<?>> lists) {
+        Map<String, List<?>> copies = new HashMap<>();
+        lists.forEach((name, list) -> copies.put(name, new ArrayList<>(list)));
+        return copies;
+    }
+
+    /**
+     * A list of a data file, which is written as the array named {@code name} of Jackson-friendly items.
+     */
+    static class ListFormat {
+        private final String name;
+        private final Class<?> jsonItemClass;
+        private final Function<Object, ?> adapter;
+
+        private ListFormat(String name, Class<?> jsonItemClass, Function<Object, ?> adapter) {
+            this.name = name;
+            this.jsonItemClass = jsonItemClass;
+            this.adapter = adapter;
+        }
+
+        /**
+         * Returns the format of the list named {@code name}, whose items of {@code itemClass} are written as their
+         * {@code jsonItemClass} versions made by {@code adapter}.
+         */
+        static <E, J> ListFormat of(String name, Class<E> itemClass, Class<J> jsonItemClass,
+                Function<? super E, ? extends J> adapter) {
+            requireAllNonNull(name, itemClass, jsonItemClass, adapter);
+            return new ListFormat(name, jsonItemClass, item -> adapter.apply(itemClass.cast(item)));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package soconnect.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -10,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import soconnect.commons.exceptions.IllegalValueException;
+import soconnect.commons.util.Interner;
 import soconnect.model.person.Address;
 import soconnect.model.person.Email;
 import soconnect.model.person.Name;
@@ -65,9 +67,22 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException If there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new Interner<>(), Map.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, whose address
+     * value is shared through {@code addressValues} with the other persons of the same load, and whose tags are
+     * the equal tags in {@code tagDictionary}. A tag that is not in {@code tagDictionary} is kept as it is.
+     *
+     * @throws IllegalValueException If there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(Interner<String> addressValues, Map<Tag, Tag> tagDictionary)
+            throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
-            personTags.add(tag.toModelType());
+            Tag modelTag = tag.toModelType();
+            personTags.add(tagDictionary.getOrDefault(modelTag, modelTag));
         }
 
         if (name == null) {
@@ -100,7 +115,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = new Address(addressValues.intern(address));
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
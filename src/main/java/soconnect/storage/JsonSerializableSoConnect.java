@@ -1,9 +1,13 @@
 package soconnect.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,8 +15,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import soconnect.commons.exceptions.IllegalValueException;
+import soconnect.commons.util.Interner;
 import soconnect.model.ReadOnlySoConnect;
 import soconnect.model.SoConnect;
+import soconnect.model.person.Name;
 import soconnect.model.person.Person;
 import soconnect.model.tag.Tag;
 
@@ -26,6 +32,11 @@ class JsonSerializableSoConnect {
     public static final String MESSAGE_DUPLICATE_TAG = "Tags list contains duplicate tag(s).";
     public static final String MESSAGE_TAG_NOT_FOUND = "Person contains tags not found in the Tags list.";
 
+    /** The number of persons from which they are converted in parallel. */
+    static final int PARALLEL_LOAD_THRESHOLD = 10_000;
+
+    private static final int CHUNK_SIZE = 1024;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
@@ -51,58 +62,156 @@ class JsonSerializableSoConnect {
 
     /**
      * Converts this SoConnect into the model's {@code SoConnect} object.
+     * From {@link #PARALLEL_LOAD_THRESHOLD} persons, the persons are checked and converted in chunks in parallel in
+     * the common fork-join pool, then added in a single step. The first person that violates a constraint, in the
+     * order of the list, is reported either way. Equal address values are shared among the persons.
      *
      * @throws IllegalValueException If there were any data constraints violated.
      */
     public SoConnect toModelType() throws IllegalValueException {
         SoConnect soConnect = new SoConnect();
-        List<Tag> tempTagList = new ArrayList<>();
+        Map<Tag, Tag> tagDictionary = new HashMap<>();
 
         for (JsonAdaptedTag jsonAdaptedTag : tags) {
-            Tag tag = jsonAdaptedTag.toModelType();
-            if (soConnect.hasTag(tag)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TAG);
-            }
-            soConnect.addTag(tag);
-            tempTagList.add(tag);
+            addTag(soConnect, jsonAdaptedTag.toModelType(), tagDictionary);
         }
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (soConnect.hasPerson(person)) {
+        ConvertedPerson[] convertedPersons = new ConvertedPerson[persons.size()];
+        ConvertTask convertTask = new ConvertTask(tagDictionary, new Interner<>(), convertedPersons, 0,
+                persons.size());
+        if (persons.size() >= PARALLEL_LOAD_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(convertTask);
+        } else {
+            convertTask.convertRange();
+        }
+
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        Set<Name> names = new HashSet<>();
+        for (ConvertedPerson convertedPerson : convertedPersons) {
+            if (convertedPerson.error != null) {
+                throw convertedPerson.error;
+            }
+            if (!names.add(convertedPerson.person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            JsonSerializableSoConnect.matchTags(soConnect, person, tempTagList);
+            if (convertedPerson.hasUnknownTag) {
+                throw new IllegalValueException(MESSAGE_TAG_NOT_FOUND);
+            }
+            modelPersons.add(convertedPerson.person);
         }
+        soConnect.setPersons(modelPersons);
 
         return soConnect;
     }
 
     /**
-     * Adds person if the person's tags matches with the tags in the tagList.
+     * Adds {@code tag} to {@code soConnect} and to {@code tagDictionary}, which maps each tag added so far to its
+     * instance in the tag list of {@code soConnect}.
      *
-     * @param soConnect The platform where the person is added.
-     * @param person The person to be added.
-     * @param tagList The tagList for tag comparison.
-     * @throws IllegalValueException If there were any data constraints violated.
+     * @throws IllegalValueException If {@code soConnect} already has the tag.
      */
-    public static void matchTags(SoConnect soConnect, Person person, List<Tag> tagList) throws IllegalValueException {
-        List<Tag> personTags = new ArrayList<>(person.getTags());
-        for (int i = 0; i < personTags.size(); i++) {
-            if (!soConnect.hasTag(personTags.get(i))) {
-                throw new IllegalValueException(MESSAGE_TAG_NOT_FOUND);
-            } else {
-                int index = tagList.indexOf(personTags.get(i));
-                personTags.set(i, tagList.get(index));
+    static void addTag(SoConnect soConnect, Tag tag, Map<Tag, Tag> tagDictionary) throws IllegalValueException {
+        if (soConnect.hasTag(tag)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TAG);
+        }
+        soConnect.addTag(tag);
+        tagDictionary.put(tag, soConnect.getTagFromList(tag));
+    }
+
+    /**
+     * Adds {@code person}, whose tags were taken from {@code tagDictionary}, to {@code soConnect}.
+     *
+     * @throws IllegalValueException If {@code soConnect} already has the person, or a tag is not in the dictionary.
+     */
+    static void addPerson(SoConnect soConnect, Person person, Map<Tag, Tag> tagDictionary)
+            throws IllegalValueException {
+        if (soConnect.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (hasUnknownTag(person, tagDictionary)) {
+            throw new IllegalValueException(MESSAGE_TAG_NOT_FOUND);
+        }
+        soConnect.addPerson(person);
+    }
+
+    /**
+     * Returns true if a tag of {@code person} is not the instance in {@code tagDictionary}, which is only the case
+     * for a tag that is not in the dictionary when the person is converted with it.
+     */
+    private static boolean hasUnknownTag(Person person, Map<Tag, Tag> tagDictionary) {
+        for (Tag tag : person.getTags()) {
+            if (tagDictionary.get(tag) != tag) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A person converted from its Jackson-friendly version, or the constraint that it violates.
+     */
+    private static class ConvertedPerson {
+        private final Person person;
+        private final IllegalValueException error;
+        private final boolean hasUnknownTag;
+
+        private ConvertedPerson(Person person, IllegalValueException error, boolean hasUnknownTag) {
+            this.person = person;
+            this.error = error;
+            this.hasUnknownTag = hasUnknownTag;
+        }
+    }
+
+    /**
+     * Converts a range of the persons, splitting it into chunks that are converted in parallel.
+     * The tag dictionary is only read, and the address interner is concurrent, so the chunks can share them.
+     */
+    private class ConvertTask extends RecursiveAction {
+        private final Map<Tag, Tag> tagDictionary;
+        private final Interner<String> addressValues;
+        private final ConvertedPerson[] convertedPersons;
+        private final int from;
+        private final int to;
+
+        ConvertTask(Map<Tag, Tag> tagDictionary, Interner<String> addressValues, ConvertedPerson[] convertedPersons,
+                int from, int to) {
+            this.tagDictionary = tagDictionary;
+            this.addressValues = addressValues;
+            this.convertedPersons = convertedPersons;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                convertRange();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertTask(tagDictionary, addressValues, convertedPersons, from, middle),
+                    new ConvertTask(tagDictionary, addressValues, convertedPersons, middle, to));
+        }
+
+        /**
+         * Converts the whole range on the calling thread.
+         */
+        void convertRange() {
+            for (int i = from; i < to; i++) {
+                convertedPersons[i] = convert(persons.get(i));
+            }
+        }
+
+        private ConvertedPerson convert(JsonAdaptedPerson jsonAdaptedPerson) {
+            Person person;
+            try {
+                // The tags are resolved before the person is built, so that it is built only once
+                person = jsonAdaptedPerson.toModelType(addressValues, tagDictionary);
+            } catch (IllegalValueException ive) {
+                return new ConvertedPerson(null, ive, false);
             }
+            return new ConvertedPerson(person, null, hasUnknownTag(person, tagDictionary));
         }
-        Set<Tag> updatedTags = new HashSet<>(personTags);
-        Person newPerson = new Person(person.getName(),
-                person.getPhone(),
-                person.getEmail(),
-                person.getAddress(),
-                updatedTags);
-        soConnect.addPerson(newPerson);
     }
 
 }
@@ -4,27 +4,51 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import soconnect.commons.core.LogsCenter;
 import soconnect.commons.exceptions.DataConversionException;
 import soconnect.commons.exceptions.IllegalValueException;
-import soconnect.commons.util.FileUtil;
-import soconnect.commons.util.JsonUtil;
 import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlySoConnectLists;
+import soconnect.model.person.Person;
+import soconnect.model.tag.Tag;
+import soconnect.storage.JournaledJsonFile.ListFormat;
 
 /**
  * A class to access SoConnect data stored as a json file on the hard disk.
+ * In journaled mode, the changes to the persons and tags are appended to a journal beside the file, which is
+ * compacted into the file from time to time, instead of the whole file being rewritten on every save.
+ * The persons and tags are streamed to and from the file one at a time.
  */
 public class JsonSoConnectStorage implements SoConnectStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonSoConnectStorage.class);
 
+    private static final String PERSONS = "persons";
+    private static final String TAGS = "tags";
+
     private Path filePath;
+    private final JournaledJsonFile dataFile;
 
     public JsonSoConnectStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonSoConnectStorage} for the json file at {@code filePath}.
+     *
+     * @param filePath The path of the data file.
+     * @param isJournaled Whether the changes are appended to a journal instead of rewriting the data file.
+     */
+    public JsonSoConnectStorage(Path filePath, boolean isJournaled) {
         this.filePath = filePath;
+        this.dataFile = new JournaledJsonFile(isJournaled,
+                ListFormat.of(PERSONS, Person.class, JsonAdaptedPerson.class, JsonAdaptedPerson::new),
+                ListFormat.of(TAGS, Tag.class, JsonAdaptedTag.class, JsonAdaptedTag::new));
     }
 
     public Path getSoConnectFilePath() {
@@ -45,36 +69,56 @@ public class JsonSoConnectStorage implements SoConnectStorage {
     public Optional<ReadOnlySoConnect> readSoConnect(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableSoConnect> jsonSoConnect = JsonUtil.readJsonFile(
-                filePath, JsonSerializableSoConnect.class);
-        if (!jsonSoConnect.isPresent()) {
+        Optional<Map<String, List<Object>>> lists = dataFile.read(filePath);
+        if (!lists.isPresent()) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonSoConnect.get().toModelType());
+            JsonSerializableSoConnect jsonSoConnect = new JsonSerializableSoConnect(
+                    JournaledJsonFile.getItems(lists.get(), PERSONS, JsonAdaptedPerson.class),
+                    JournaledJsonFile.getItems(lists.get(), TAGS, JsonAdaptedTag.class));
+            ReadOnlySoConnect soConnect = jsonSoConnect.toModelType();
+            dataFile.setReadLists(getLists(soConnect));
+            return Optional.of(soConnect);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Returns {@code Optional.empty()}, as a json file cannot be read one person at a time.
+     */
+    @Override
+    public Optional<List<Person>> readPersonsLazily() {
+        return Optional.empty();
+    }
+
     @Override
-    public void saveSoConnect(ReadOnlySoConnect soConnect) throws IOException {
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect) throws IOException {
         saveSoConnect(soConnect, filePath);
     }
 
     /**
-     * Similar to {@link #saveSoConnect(ReadOnlySoConnect)}.
+     * Similar to {@link #saveSoConnect(ReadOnlySoConnectLists)}.
      *
      * @param filePath Location of the data. Cannot be null.
      */
-    public void saveSoConnect(ReadOnlySoConnect soConnect, Path filePath) throws IOException {
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect, Path filePath) throws IOException {
         requireNonNull(soConnect);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableSoConnect(soConnect), filePath);
+        dataFile.save(filePath, getLists(soConnect));
+    }
+
+    @Override
+    public void compactSoConnect() throws IOException {
+        dataFile.compact();
+    }
+
+    private static Map<String, List<?>> getLists(ReadOnlySoConnectLists soConnect) {
+        return Map.of(PERSONS, soConnect.getPersonList(), TAGS, soConnect.getTagList());
     }
 
 }
@@ -5,28 +5,48 @@ import static soconnect.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import soconnect.commons.core.LogsCenter;
 import soconnect.commons.exceptions.DataConversionException;
 import soconnect.commons.exceptions.IllegalValueException;
-import soconnect.commons.util.FileUtil;
-import soconnect.commons.util.JsonUtil;
 import soconnect.model.ReadOnlySoConnect;
 import soconnect.model.ReadOnlyTodoList;
+import soconnect.model.todo.Todo;
+import soconnect.storage.JournaledJsonFile.ListFormat;
 
 /**
  * A class to access {@code TodoList} data stored as a json file on the hard disk.
+ * In journaled mode, the changes to the todos are appended to a journal beside the file, which is compacted into
+ * the file from time to time, instead of the whole file being rewritten on every save.
+ * The todos are streamed to and from the file one at a time.
  */
 public class JsonTodoListStorage implements TodoListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTodoListStorage.class);
 
+    private static final String TODOS = "todos";
+
     private final Path filePath;
+    private final JournaledJsonFile dataFile;
 
     public JsonTodoListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonTodoListStorage} for the json file at {@code filePath}.
+     *
+     * @param filePath The path of the data file.
+     * @param isJournaled Whether the changes are appended to a journal instead of rewriting the data file.
+     */
+    public JsonTodoListStorage(Path filePath, boolean isJournaled) {
         this.filePath = filePath;
+        this.dataFile = new JournaledJsonFile(isJournaled,
+                ListFormat.of(TODOS, Todo.class, JsonAdaptedTodo.class, JsonAdaptedTodo::new));
     }
 
     public Path getTodoListFilePath() {
@@ -51,14 +71,17 @@ public class JsonTodoListStorage implements TodoListStorage {
             throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTodoList> jsonTodoList = JsonUtil.readJsonFile(
-            filePath, JsonSerializableTodoList.class);
-        if (jsonTodoList.isEmpty()) {
+        Optional<Map<String, List<Object>>> lists = dataFile.read(filePath);
+        if (lists.isEmpty()) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonTodoList.get().toModelType(readOnlySoConnect));
+            JsonSerializableTodoList jsonTodoList = new JsonSerializableTodoList(
+                    JournaledJsonFile.getItems(lists.get(), TODOS, JsonAdaptedTodo.class));
+            ReadOnlyTodoList todoList = jsonTodoList.toModelType(readOnlySoConnect);
+            dataFile.setReadLists(getLists(todoList));
+            return Optional.of(todoList);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -79,8 +102,16 @@ public class JsonTodoListStorage implements TodoListStorage {
     public void saveTodoList(ReadOnlyTodoList todoList, Path filePath) throws IOException {
         requireAllNonNull(todoList, filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTodoList(todoList), filePath);
+        dataFile.save(filePath, getLists(todoList));
+    }
+
+    @Override
+    public void compactTodoList() throws IOException {
+        dataFile.compact();
+    }
+
+    private static Map<String, List<?>> getLists(ReadOnlyTodoList todoList) {
+        return Map.of(TODOS, todoList.getTodoList());
     }
 
 }
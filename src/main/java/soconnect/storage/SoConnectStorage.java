@@ -2,11 +2,14 @@ package soconnect.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import soconnect.commons.exceptions.DataConversionException;
 import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlySoConnectLists;
 import soconnect.model.SoConnect;
+import soconnect.model.person.Person;
 
 /**
  * Represents a storage for {@link SoConnect}.
@@ -33,16 +36,35 @@ public interface SoConnectStorage {
     Optional<ReadOnlySoConnect> readSoConnect(Path filePath) throws DataConversionException, IOException;
 
     /**
-     * Saves the given {@link ReadOnlySoConnect} to the storage.
+     * Returns the persons in the data file as a list that reads each person only when it is accessed, so that they
+     * can be shown before the whole file is read.
+     * Returns {@code Optional.empty()} if storage file is not found or cannot be read one person at a time.
+     * The persons are not checked against each other, and a person that cannot be read is returned as null.
+     *
+     * @throws DataConversionException If the data in storage is not in the expected format.
+     * @throws IOException If there was any problem when reading from the storage.
+     */
+    Optional<List<Person>> readPersonsLazily() throws DataConversionException, IOException;
+
+    /**
+     * Saves the given {@link ReadOnlySoConnectLists} to the storage.
      *
      * @param soConnect Cannot be null.
      * @throws IOException If there was any problem writing to the file.
      */
-    void saveSoConnect(ReadOnlySoConnect soConnect) throws IOException;
+    void saveSoConnect(ReadOnlySoConnectLists soConnect) throws IOException;
 
     /**
-     * @see #saveSoConnect(ReadOnlySoConnect)
+     * @see #saveSoConnect(ReadOnlySoConnectLists)
+     */
+    void saveSoConnect(ReadOnlySoConnectLists soConnect, Path filePath) throws IOException;
+
+    /**
+     * Rewrites the data file last saved so that it holds all of the data by itself, if the saves only recorded their
+     * changes. Called once no more saves will be made.
+     *
+     * @throws IOException If there was any problem writing to the file.
      */
-    void saveSoConnect(ReadOnlySoConnect soConnect, Path filePath) throws IOException;
+    default void compactSoConnect() throws IOException {}
 
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import soconnect.commons.exceptions.DataConversionException;
 import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlySoConnectLists;
 import soconnect.model.ReadOnlyTodoList;
 import soconnect.model.ReadOnlyUserPrefs;
 import soconnect.model.UserPrefs;
@@ -28,7 +29,7 @@ public interface Storage extends SoConnectStorage, TodoListStorage, UserPrefsSto
     Optional<ReadOnlySoConnect> readSoConnect() throws DataConversionException, IOException;
 
     @Override
-    void saveSoConnect(ReadOnlySoConnect soConnect) throws IOException;
+    void saveSoConnect(ReadOnlySoConnectLists soConnect) throws IOException;
 
     @Override
     Path getTodoListFilePath();
@@ -40,4 +41,27 @@ public interface Storage extends SoConnectStorage, TodoListStorage, UserPrefsSto
     @Override
     void saveTodoList(ReadOnlyTodoList todoList) throws IOException;
 
+    /**
+     * Waits until the data of every save requested so far is written.
+     *
+     * @throws IOException If one of the saves failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Reports the failure of a save that was written after the save method returned, if any.
+     * Each failure is only reported once.
+     *
+     * @throws IOException If such a save failed.
+     */
+    void checkSaveFailure() throws IOException;
+
+    /**
+     * Waits until the data of every save requested so far is written, then releases the resources of the storage,
+     * which must not be used afterwards.
+     *
+     * @throws IOException If one of the saves failed.
+     */
+    void shutdown() throws IOException;
+
 }
@@ -2,15 +2,18 @@ package soconnect.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import soconnect.commons.core.LogsCenter;
 import soconnect.commons.exceptions.DataConversionException;
 import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlySoConnectLists;
 import soconnect.model.ReadOnlyTodoList;
 import soconnect.model.ReadOnlyUserPrefs;
 import soconnect.model.UserPrefs;
+import soconnect.model.person.Person;
 
 /**
  * Manages storage of SoConnect contact data and todo data in local storage.
@@ -69,16 +72,28 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public void saveSoConnect(ReadOnlySoConnect soConnect) throws IOException {
+    public Optional<List<Person>> readPersonsLazily() throws DataConversionException, IOException {
+        logger.fine("Attempting to read persons lazily from file: " + soConnectStorage.getSoConnectFilePath());
+        return soConnectStorage.readPersonsLazily();
+    }
+
+    @Override
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect) throws IOException {
         saveSoConnect(soConnect, soConnectStorage.getSoConnectFilePath());
     }
 
     @Override
-    public void saveSoConnect(ReadOnlySoConnect soConnect, Path filePath) throws IOException {
+    public void saveSoConnect(ReadOnlySoConnectLists soConnect, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         soConnectStorage.saveSoConnect(soConnect, filePath);
     }
 
+    @Override
+    public void compactSoConnect() throws IOException {
+        logger.fine("Attempting to compact data file: " + soConnectStorage.getSoConnectFilePath());
+        soConnectStorage.compactSoConnect();
+    }
+
     // ================ TodoList methods ==============================
 
     @Override
@@ -110,4 +125,30 @@ public class StorageManager implements Storage {
         todoListStorage.saveTodoList(todoList, filePath);
     }
 
+    @Override
+    public void compactTodoList() throws IOException {
+        logger.fine("Attempting to compact data file: " + todoListStorage.getTodoListFilePath());
+        todoListStorage.compactTodoList();
+    }
+
+    // Every save is written before the save method returns, so there is nothing to wait for or report
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void checkSaveFailure() {}
+
+    /**
+     * Compacts the data files, so that the next start reads each of them without replaying its journal.
+     */
+    @Override
+    public void shutdown() throws IOException {
+        try {
+            compactSoConnect();
+        } finally {
+            compactTodoList();
+        }
+    }
+
 }
@@ -54,4 +54,12 @@ public interface TodoListStorage {
      */
     void saveTodoList(ReadOnlyTodoList todoList, Path filePath) throws IOException;
 
+    /**
+     * Rewrites the data file last saved so that it holds all of the data by itself, if the saves only recorded their
+     * changes. Called once no more saves will be made.
+     *
+     * @throws IOException If there was any problem writing to the file.
+     */
+    default void compactTodoList() throws IOException {}
+
 }
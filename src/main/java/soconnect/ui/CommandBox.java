@@ -1,8 +1,11 @@
 package soconnect.ui;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -13,6 +16,7 @@ import javafx.geometry.Side;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.CustomMenuItem;
 import javafx.scene.control.Label;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseEvent;
@@ -22,6 +26,7 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 import soconnect.logic.Logic;
 import soconnect.logic.autocomplete.Autocomplete;
+import soconnect.logic.autocomplete.AutocompleteExecutor;
 import soconnect.logic.commands.CommandResult;
 import soconnect.logic.commands.exceptions.CommandException;
 import soconnect.logic.parser.exceptions.ParseException;
@@ -34,10 +39,15 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
     private static final double LABEL_PREFERRED_HEIGHT = 20;
+    // The length of the width to be minus so the label's width matches the white line on commandTextField
+    private static final double WIDTH_FROM_END_OF_COMMAND_TEXT_FIELD = 13;
 
     private final CommandExecutor commandExecutor;
 
-    private final Autocomplete autocomplete;
+    private final AutocompleteExecutor autocompleteExecutor;
+
+    // The search input highlighted in the items of the autocomplete pop up
+    private String highlightedSearchInput;
 
     @FXML
     private TextField commandTextField;
@@ -51,7 +61,8 @@ public class CommandBox extends UiPart<Region> {
     public CommandBox(CommandExecutor commandExecutor, Autocomplete autocompleteManager) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        this.autocomplete = autocompleteManager;
+        // Entries are computed off the JavaFX Application Thread, and shown on it
+        this.autocompleteExecutor = new AutocompleteExecutor(autocompleteManager, Platform::runLater);
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
 
@@ -111,12 +122,24 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Generates and displays the autocomplete pop up.
-     * Solution below adapted from https://stackoverflow.com/questions/36861056/javafx-textfield-auto-suggestions.
+     * Requests the autocomplete entries of the current input, which are displayed once they are computed.
+     * Requests made while the user is still typing replace each other, so only the entries of the latest input are
+     * computed and displayed.
      */
     private void autocompleteAction() {
         String commandText = commandTextField.getText().trim();
-        List<String> autocompleteEntries = autocomplete.getAutocompleteEntries(commandText);
+        autocompleteExecutor.request(commandText, autocompleteEntries ->
+                showAutocompleteEntries(commandText, autocompleteEntries));
+    }
+
+    /**
+     * Displays the autocomplete pop up with the {@code autocompleteEntries}, or hides it if there are none.
+     * Solution below adapted from https://stackoverflow.com/questions/36861056/javafx-textfield-auto-suggestions.
+     *
+     * @param commandText The input that the entries are generated from.
+     * @param autocompleteEntries The list of matching strings.
+     */
+    private void showAutocompleteEntries(String commandText, List<String> autocompleteEntries) {
         if (autocompleteEntries.isEmpty()) {
             autocompletePopup.getItems().clear();
             autocompletePopup.hide();
@@ -135,6 +158,7 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Generates a list of autocomplete entries in the {@code contextMenu}.
+     * The items of entries that are already shown are reused, so only the items of new entries are built.
      * Solution below adapted from https://stackoverflow.com/questions/36861056/javafx-textfield-auto-suggestions.
      *
      * @param autocompleteEntries The list of matching strings.
@@ -143,31 +167,57 @@ public class CommandBox extends UiPart<Region> {
     private void populatePopup(List<String> autocompleteEntries, String originalSearchInput) {
         assert !autocompleteEntries.isEmpty();
 
-        List<CustomMenuItem> menuItems = new LinkedList<>();
-        for (String autocompleteEntry : autocompleteEntries) {
-            Label entryLabel = new Label();
-            entryLabel.setGraphic(buildTextFlow(originalSearchInput, autocompleteEntry));
-            entryLabel.setPrefSize(getLabelPreferredWidth(), LABEL_PREFERRED_HEIGHT);
-            labelWidthChangeListener(entryLabel);
-
-            CustomMenuItem item = new CustomMenuItem(entryLabel, true);
-            // Whenever an item is selected, set text field to the selected text, execute the command and close pop up.
-            item.setOnAction(new EventHandler<ActionEvent>() {
-                @Override
-                public void handle(ActionEvent event) {
-                    commandTextField.setText(autocompleteEntry);
-                    handleCommandEntered();
-                    autocompletePopup.hide();
-                    autocompletePopup.getItems().clear();
-                }
-            });
+        Map<String, CustomMenuItem> shownItems = new HashMap<>();
+        for (MenuItem item : autocompletePopup.getItems()) {
+            shownItems.put((String) item.getUserData(), (CustomMenuItem) item);
+        }
+        boolean isSearchInputChanged = !originalSearchInput.equals(highlightedSearchInput);
 
+        List<CustomMenuItem> menuItems = new ArrayList<>();
+        for (String autocompleteEntry : autocompleteEntries) {
+            CustomMenuItem item = shownItems.get(autocompleteEntry);
+            if (item == null) {
+                item = buildMenuItem(originalSearchInput, autocompleteEntry);
+            } else if (isSearchInputChanged) {
+                ((Label) item.getContent()).setGraphic(buildTextFlow(originalSearchInput, autocompleteEntry));
+            }
             menuItems.add(item);
         }
+        highlightedSearchInput = originalSearchInput;
 
-        // Update the autocomplete pop up.
-        autocompletePopup.getItems().clear();
-        autocompletePopup.getItems().addAll(menuItems);
+        // Update the autocomplete pop up, only if the items have changed.
+        if (!autocompletePopup.getItems().equals(menuItems)) {
+            autocompletePopup.getItems().setAll(menuItems);
+        }
+    }
+
+    /**
+     * Builds the item of the {@code autocompleteEntry} in the autocomplete pop up.
+     *
+     * @param originalSearchInput The original search input entered by the user.
+     * @param autocompleteEntry The autocomplete entry generated by the original search input.
+     * @return The item, with the entry as its user data.
+     */
+    private CustomMenuItem buildMenuItem(String originalSearchInput, String autocompleteEntry) {
+        Label entryLabel = new Label();
+        entryLabel.setGraphic(buildTextFlow(originalSearchInput, autocompleteEntry));
+        entryLabel.setPrefHeight(LABEL_PREFERRED_HEIGHT);
+        bindLabelWidth(entryLabel);
+
+        CustomMenuItem item = new CustomMenuItem(entryLabel, true);
+        item.setUserData(autocompleteEntry);
+        // Whenever an item is selected, set text field to the selected text, execute the command and close pop up.
+        item.setOnAction(new EventHandler<ActionEvent>() {
+            @Override
+            public void handle(ActionEvent event) {
+                autocompleteExecutor.recordSelection(autocompleteEntry);
+                commandTextField.setText(autocompleteEntry);
+                handleCommandEntered();
+                autocompletePopup.hide();
+                autocompletePopup.getItems().clear();
+            }
+        });
+        return item;
     }
 
     /**
@@ -187,28 +237,15 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Activates a listener to detect the change in the application size and changes the label width accordingly.
+     * Binds the label's width to the width of the command box, so that it changes with the application size.
+     * The command box only refers weakly to the binding, so the labels of items that are no longer shown can be
+     * garbage collected.
      *
      * @param label The label which the width will be changed.
      */
-    private void labelWidthChangeListener(Label label) {
-        commandTextField.widthProperty().addListener(new ChangeListener<Number>() {
-            @Override
-            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
-                label.setPrefWidth(getLabelPreferredWidth());
-            }
-        });
-    }
-
-    /**
-     * Gets the label's preferred width.
-     *
-     * @return Label's preferred width.
-     */
-    private double getLabelPreferredWidth() {
-        // The length of the width to be minus so the label's width matches the white line on commandTextField
-        double widthFromEndOfCommandTextField = 13;
-        return commandTextField.getWidth() - widthFromEndOfCommandTextField;
+    private void bindLabelWidth(Label label) {
+        label.prefWidthProperty().bind(
+                commandTextField.widthProperty().subtract(WIDTH_FROM_END_OF_COMMAND_TEXT_FIELD));
     }
 
     /**
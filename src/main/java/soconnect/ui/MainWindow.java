@@ -1,7 +1,9 @@
 package soconnect.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,6 +18,7 @@ import soconnect.logic.Logic;
 import soconnect.logic.commands.CommandResult;
 import soconnect.logic.commands.exceptions.CommandException;
 import soconnect.logic.parser.exceptions.ParseException;
+import soconnect.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -23,6 +26,11 @@ import soconnect.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading %1$d contacts. Commands can be entered once they are loaded.";
+    public static final String MESSAGE_STILL_LOADING = "The contacts are still being loaded. Please try again shortly.";
+    public static final String MESSAGE_LOAD_FAILED = "The contacts could not be loaded. Commands are disabled so that "
+            + "the data file is not overwritten. Please restart SoConnect.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -36,6 +44,11 @@ public class MainWindow extends UiPart<Stage> {
     private TodoListPanel todoListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    // The reason commands cannot be executed while the persons are previewed, or null once they can be
+    private String commandBlockedMessage;
+
+    // Counts the executed commands, so that the later feedback of a command does not replace that of a newer one
+    private long commandCount;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -128,6 +141,33 @@ public class MainWindow extends UiPart<Stage> {
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows {@code persons} in the person list until {@link #endPreview()} is called, and blocks commands meanwhile.
+     * The list view only reads the persons that it shows.
+     */
+    void showPreview(List<Person> persons) {
+        commandBlockedMessage = MESSAGE_STILL_LOADING;
+        personListPanel.setPersons(FXCollections.observableList(persons));
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING, persons.size()));
+    }
+
+    /**
+     * Shows the persons of the loaded data in the person list, and lets commands be executed again.
+     */
+    void endPreview() {
+        commandBlockedMessage = null;
+        personListPanel.setPersons(logic.getFilteredPersonList());
+        resultDisplay.setFeedbackToUser("");
+    }
+
+    /**
+     * Keeps the preview of the persons and blocks commands for good, as the data failed to load.
+     */
+    void failPreview() {
+        commandBlockedMessage = MESSAGE_LOAD_FAILED;
+        resultDisplay.setFeedbackToUser(MESSAGE_LOAD_FAILED);
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -180,9 +220,19 @@ public class MainWindow extends UiPart<Stage> {
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
+            if (commandBlockedMessage != null) {
+                throw new CommandException(commandBlockedMessage);
+            }
+            long command = ++commandCount;
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getLaterFeedbackToUser().ifPresent(laterFeedback -> laterFeedback.thenAccept(feedback -> {
+                logger.info("Later result: " + feedback);
+                if (command == commandCount) {
+                    resultDisplay.setFeedbackToUser(feedback);
+                }
+            }));
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -28,6 +28,13 @@ public class PersonListPanel extends UiPart<Region> {
         this.logic = logic;
     }
 
+    /**
+     * Shows {@code personList} in place of the list shown.
+     */
+    void setPersons(ObservableList<Person> personList) {
+        personListView.setItems(personList);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
@@ -1,6 +1,9 @@
 package soconnect.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
+import soconnect.model.person.Person;
 
 /**
  * API of UI component.
@@ -12,4 +15,21 @@ public interface Ui {
      */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code persons} in the person list while the data is being loaded, until {@link #endPreview()} is
+     * called. Commands cannot be executed in the meantime.
+     */
+    void showPreview(List<Person> persons);
+
+    /**
+     * Shows the persons of the loaded data in the person list, and lets commands be executed again.
+     */
+    void endPreview();
+
+    /**
+     * Keeps commands from being executed after the data failed to load while {@code persons} were shown, so that
+     * the empty data in its place is never saved over the data file, and tells the user so.
+     */
+    void failPreview();
+
 }
@@ -1,5 +1,6 @@
 package soconnect.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +12,7 @@ import soconnect.MainApp;
 import soconnect.commons.core.LogsCenter;
 import soconnect.commons.util.StringUtil;
 import soconnect.logic.Logic;
+import soconnect.model.person.Person;
 
 /**
  * The manager of the UI component.
@@ -50,6 +52,21 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showPreview(List<Person> persons) {
+        mainWindow.showPreview(persons);
+    }
+
+    @Override
+    public void endPreview() {
+        mainWindow.endPreview();
+    }
+
+    @Override
+    public void failPreview() {
+        mainWindow.failPreview();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
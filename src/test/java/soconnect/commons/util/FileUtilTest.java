@@ -1,13 +1,22 @@
 package soconnect.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static soconnect.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,64 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_noBackup() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.json");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        assertFalse(Files.exists(testFolder.resolve("folder").resolve("file.json" + FileUtil.TEMP_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void writeToFileWithBackup_existingFile_previousContentBackedUp() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.json");
+        writeToFileWithBackup(file, "first");
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        writeToFileWithBackup(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+
+        // the backup keeps its content once the file is written again
+        writeToFileWithBackup(file, "third");
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        assertFalse(Files.exists(testFolder.resolve("folder").resolve("file.json" + FileUtil.TEMP_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void writeToFile_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFile(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("failed");
+        }));
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.json" + FileUtil.TEMP_FILE_EXTENSION)));
+    }
+
+    @Test
+    public void setAside_unreadableFile_backupKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        writeToFileWithBackup(file, "first");
+        writeToFileWithBackup(file, "corrupted");
+
+        Path unreadableFile = FileUtil.setAside(file);
+        assertFalse(Files.exists(file));
+        assertEquals("corrupted", FileUtil.readFromFile(unreadableFile));
+
+        // the next write does not replace the backup with the unreadable content
+        writeToFileWithBackup(file, "restored");
+        assertEquals("restored", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+    }
+
+    private static void writeToFileWithBackup(Path file, String content) throws IOException {
+        FileUtil.writeToFileWithBackup(file, out -> out.write(content.getBytes("UTF-8")));
+    }
+
 }
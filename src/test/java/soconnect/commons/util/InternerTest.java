@@ -0,0 +1,51 @@
+package soconnect.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstInstanceShared() {
+        String first = new String("Blk 30 Geylang Street 29");
+        String second = new String("Blk 30 Geylang Street 29");
+        assertTrue(interner.intern(first) == first);
+        assertTrue(interner.intern(second) == first);
+        assertTrue(interner.intern(first) == first);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_concurrentEqualValues_oneInstanceShared() {
+        List<String> instances = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> interner.intern(new String("Blk " + i % 10)))
+                .collect(Collectors.toList());
+        assertEquals(10, interner.size());
+        for (String instance : instances) {
+            assertTrue(interner.intern(new String(instance)) == instance);
+        }
+    }
+
+    @Test
+    public void getSharingReport_sharedAndUnsharedCopies_reportsCurrentSharing() {
+        String shared = "abc";
+        List<String> values = List.of(shared, shared, new String("abc"), "de");
+        long savedBytes = Interner.estimateStringSize("abc");
+        assertEquals("4 values held in 3 instances of 2 distinct values, about " + savedBytes + " bytes saved",
+                Interner.getSharingReport(values, Interner::estimateStringSize));
+    }
+}
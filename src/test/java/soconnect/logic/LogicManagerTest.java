@@ -1,6 +1,8 @@
 package soconnect.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static soconnect.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static soconnect.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static soconnect.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,6 +13,7 @@ import static soconnect.testutil.Assert.assertThrows;
 import static soconnect.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +28,7 @@ import soconnect.logic.commands.exceptions.CommandException;
 import soconnect.logic.parser.exceptions.ParseException;
 import soconnect.model.Model;
 import soconnect.model.ModelManager;
-import soconnect.model.ReadOnlySoConnect;
+import soconnect.model.ReadOnlySoConnectLists;
 import soconnect.model.ReadOnlyTodoList;
 import soconnect.model.TodoList;
 import soconnect.model.UserPrefs;
@@ -99,6 +102,30 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_nothingSaved() throws Exception {
+        // saving would throw, so the command only succeeds if nothing is saved
+        JsonSoConnectStorage soConnectStorage =
+                new JsonSoConnectIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionSoConnect.json"));
+        JsonTodoListStorage todoListStorage =
+                new JsonToDoListStorageIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTodoList.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(soConnectStorage, todoListStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_soConnectModified_onlySoConnectSaved() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+
+        assertTrue(Files.exists(temporaryFolder.resolve("soConnect.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("todoList.json")));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -166,7 +193,7 @@ public class LogicManagerTest {
         }
 
         @Override
-        public void saveSoConnect(ReadOnlySoConnect soConnect, Path filePath) throws IOException {
+        public void saveSoConnect(ReadOnlySoConnectLists soConnect, Path filePath) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
@@ -0,0 +1,67 @@
+package soconnect.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import soconnect.model.SoConnect;
+import soconnect.testutil.SoConnectBuilder;
+
+public class AutocompleteExecutorTest {
+
+    private static final long DEBOUNCE_DELAY_MILLIS = 20;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final SoConnect soConnect = new SoConnectBuilder().withPerson(ALICE).withPerson(BENSON).build();
+
+    private final AutocompleteExecutor autocompleteExecutor =
+            new AutocompleteExecutor(new AutocompleteManager(soConnect), Runnable::run, DEBOUNCE_DELAY_MILLIS);
+
+    @AfterEach
+    public void tearDown() {
+        autocompleteExecutor.shutdown();
+    }
+
+    @Test
+    public void request_validInput_deliversEntries() throws Exception {
+        CompletableFuture<List<String>> entries = new CompletableFuture<>();
+        autocompleteExecutor.request("search n/al", entries::complete);
+        assertEquals(List.of("search " + PREFIX_NAME + "Alice Pauline"),
+                entries.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void request_newerRequest_onlyDeliversLatestEntries() throws Exception {
+        List<String> deliveredInputs = new CopyOnWriteArrayList<>();
+        CompletableFuture<List<String>> latestEntries = new CompletableFuture<>();
+        autocompleteExecutor.request("search n/a", unused -> deliveredInputs.add("search n/a"));
+        autocompleteExecutor.request("search n/al", unused -> deliveredInputs.add("search n/al"));
+        autocompleteExecutor.request("search n/be", latestEntries::complete);
+
+        assertEquals(List.of("search " + PREFIX_NAME + "Benson Meier"),
+                latestEntries.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of(), deliveredInputs);
+    }
+
+    @Test
+    public void cancel_pendingRequest_entriesNotDelivered() throws Exception {
+        List<String> deliveredInputs = new CopyOnWriteArrayList<>();
+        autocompleteExecutor.request("search n/a", unused -> deliveredInputs.add("search n/a"));
+        autocompleteExecutor.cancel();
+
+        // requests are computed in order, so the cancelled request would be delivered before this one
+        CompletableFuture<List<String>> nextEntries = new CompletableFuture<>();
+        autocompleteExecutor.request("search n/be", nextEntries::complete);
+        nextEntries.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(List.of(), deliveredInputs);
+    }
+}
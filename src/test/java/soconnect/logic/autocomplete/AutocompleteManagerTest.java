@@ -4,17 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static soconnect.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static soconnect.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static soconnect.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
 import static soconnect.logic.parser.CliSyntax.PREFIX_PHONE;
+import static soconnect.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static soconnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static soconnect.testutil.TypicalPersons.ALICE;
 import static soconnect.testutil.TypicalPersons.BENSON;
 import static soconnect.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import soconnect.model.SoConnect;
+import soconnect.model.tag.Tag;
+import soconnect.testutil.PersonBuilder;
 import soconnect.testutil.SoConnectBuilder;
 
 public class AutocompleteManagerTest {
@@ -86,6 +92,154 @@ public class AutocompleteManagerTest {
         assertEquals(lastPrefixArgument, AutocompleteManager.INVALID_PREFIX_ARGUMENT);
     }
 
+    @Test
+    public void getAutocompleteEntries_namePrefix_returnsMatchingNamesInOrder() {
+        soConnect.addPerson(BENSON);
+        soConnect.addPerson(new PersonBuilder(BENSON).withName("Ben Leong").build());
+        List<String> expectedEntries = List.of("search " + PREFIX_NAME + "Ben Leong",
+                "search " + PREFIX_NAME + "Benson Meier");
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("search n/bEn"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_sharedTag_returnsTagOnce() {
+        soConnect.addPerson(BENSON);
+        List<String> expectedEntries = List.of("search " + PREFIX_TAG + "friends");
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("search t/fr"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_andCondition_returnsValuesOfMatchingPersons() {
+        soConnect.addPerson(BENSON);
+        List<String> expectedEntries = List.of("search and n/Benson " + PREFIX_TAG + "owesMoney");
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("search and n/Benson t/o"));
+
+        // value only held by a person that does not match -> no entries
+        assertEquals(List.of(), autocompleteManager.getAutocompleteEntries("search and n/Alice t/o"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_appendedArgument_narrowsLastEntries() {
+        soConnect.addPerson(BENSON);
+        soConnect.addPerson(new PersonBuilder(BENSON).withName("Ben Leong").build());
+        List<String> expectedEntries = List.of("search " + PREFIX_NAME + "Ben Leong",
+                "search " + PREFIX_NAME + "Benson Meier");
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("search n/b"));
+
+        assertEquals(List.of("search " + PREFIX_NAME + "Benson Meier"),
+                autocompleteManager.getAutocompleteEntries("search n/bens"));
+
+        // deleted characters -> entries looked up again
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("search n/be"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_personsChanged_entriesIncludeChanges() {
+        assertEquals(List.of(), autocompleteManager.getAutocompleteEntries("search n/b"));
+
+        soConnect.addPerson(BENSON);
+        assertEquals(List.of("search " + PREFIX_NAME + "Benson Meier"),
+                autocompleteManager.getAutocompleteEntries("search n/be"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_lastValuesCutOff_valuesLookedUpAgain() {
+        for (int i = 0; i < 100; i++) {
+            soConnect.addPerson(new PersonBuilder(BENSON).withName("Ben A" + i).build());
+        }
+        soConnect.addPerson(new PersonBuilder(BENSON).withName("Ben Z").build());
+        assertEquals(10, autocompleteManager.getAutocompleteEntries("search n/ben").size());
+
+        assertEquals(List.of("search " + PREFIX_NAME + "Ben Z"),
+                autocompleteManager.getAutocompleteEntries("search n/ben z"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_selectedValuePastLimit_rankedFirst() {
+        for (int i = 0; i < 100; i++) {
+            soConnect.addPerson(new PersonBuilder(BENSON).withName("Ben A" + i).build());
+        }
+        soConnect.addPerson(new PersonBuilder(BENSON).withName("Ben Z").build());
+        autocompleteManager.recordSelection("search " + PREFIX_NAME + "Ben Z");
+        assertEquals("search " + PREFIX_NAME + "Ben Z",
+                autocompleteManager.getAutocompleteEntries("search n/ben").get(0));
+
+        // selected value no longer held by a person -> not suggested
+        soConnect.removePerson(soConnect.getPersonList().get(soConnect.getPersonList().size() - 1));
+        assertFalse(autocompleteManager.getAutocompleteEntries("search n/ben")
+                .contains("search " + PREFIX_NAME + "Ben Z"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_selectedTagNamePastLimit_rankedFirst() {
+        for (int i = 0; i < 100; i++) {
+            soConnect.addTag(new Tag("friend" + i));
+        }
+        soConnect.addTag(new Tag("friendz"));
+        autocompleteManager.recordSelection("tag add 1 " + PREFIX_TAG + "friendz");
+        assertEquals("tag add 1 " + PREFIX_TAG + "friendz",
+                autocompleteManager.getAutocompleteEntries("tag add 1 t/fr").get(0));
+    }
+
+    @Test
+    public void getAutocompleteEntries_selectedEntry_rankedFirst() {
+        soConnect.addPerson(BENSON);
+        soConnect.addPerson(new PersonBuilder(BENSON).withName("Ben Leong").build());
+        autocompleteManager.recordSelection("search " + PREFIX_NAME + "Benson Meier");
+
+        List<String> expectedEntries = List.of("search " + PREFIX_NAME + "Benson Meier",
+                "search " + PREFIX_NAME + "Ben Leong");
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("search n/b"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_tagsHeldByMorePersons_rankedFirst() {
+        soConnect.addPerson(BENSON);
+        soConnect.addPerson(new PersonBuilder(BOB).withTags("family").build());
+
+        List<String> expectedEntries = List.of("search " + PREFIX_TAG + "friends",
+                "search " + PREFIX_TAG + "family");
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("search t/f"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_tagSubcommand_returnsTagNames() {
+        soConnect.addTag(new Tag("friends"));
+        soConnect.addTag(new Tag("family"));
+
+        // tags held by more persons are ranked first
+        List<String> expectedEntries = List.of("tag add 1 " + PREFIX_TAG + "friends",
+                "tag add 1 " + PREFIX_TAG + "family");
+        assertEquals(expectedEntries, autocompleteManager.getAutocompleteEntries("tag add 1 t/f"));
+        assertEquals(List.of("tag edit " + PREFIX_TAG + "friends " + PREFIX_TAG + "friends"),
+                autocompleteManager.getAutocompleteEntries("tag edit t/friends t/fr"));
+
+        // subcommand without tags to suggest -> no entries
+        assertEquals(List.of(), autocompleteManager.getAutocompleteEntries("tag create t/f"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_todoSubcommand_returnsTagNamesAndPriorities() {
+        soConnect.addTag(new Tag("friends"));
+
+        assertEquals(List.of("todo show " + PREFIX_TAG + "friends"),
+                autocompleteManager.getAutocompleteEntries("todo show t/fr"));
+        assertEquals(List.of("todo add " + PREFIX_DESCRIPTION + "Call Alice " + PREFIX_PRIORITY + "high"),
+                autocompleteManager.getAutocompleteEntries("todo add d/Call Alice pr/h"));
+
+        // prefix without suggestions -> no entries
+        assertEquals(List.of(), autocompleteManager.getAutocompleteEntries("todo add d/Call"));
+    }
+
+    @Test
+    public void getAutocompleteEntries_registeredProvider_usesProvider() {
+        autocompleteManager.registerProvider("list", (commandWords, arguments) -> List.of(commandWords + " all"));
+        assertEquals(List.of("list all"), autocompleteManager.getAutocompleteEntries("list a"));
+
+        // unknown command -> no entries
+        assertEquals(List.of(), autocompleteManager.getAutocompleteEntries("unknown n/a"));
+    }
+
     @Test
     public void equals() {
         SoConnect soConnect = new SoConnectBuilder().build();
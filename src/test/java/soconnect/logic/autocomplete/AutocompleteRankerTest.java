@@ -0,0 +1,65 @@
+package soconnect.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+public class AutocompleteRankerTest {
+
+    private static final ToIntFunction<String> ONE_HOLDER = unused -> 1;
+
+    private final AutocompleteRanker ranker = new AutocompleteRanker();
+
+    @Test
+    public void findSelectedValues_valuesSelected_returnsValuesWithPrefix() {
+        ranker.recordSelection(SearchPrefixCommand.NAME, "Allen");
+        ranker.recordSelection(SearchPrefixCommand.NAME, "Bob");
+        ranker.recordSelection(SearchPrefixCommand.TAG, "alumni");
+        assertEquals(List.of("Allen"), ranker.findSelectedValues(SearchPrefixCommand.NAME, "al"));
+
+        // no selections of the field -> empty list
+        assertEquals(List.of(), ranker.findSelectedValues(SearchPrefixCommand.EMAIL, "al"));
+    }
+
+    @Test
+    public void rank_moreValuesThanLimit_returnsFirstValuesInOrder() {
+        List<String> values = List.of("Alex", "Alice", "Allen", "Alvin", "Aly");
+        assertEquals(List.of("Alex", "Alice", "Allen"),
+                ranker.rank(SearchPrefixCommand.NAME, "al", values, ONE_HOLDER, 3));
+    }
+
+    @Test
+    public void rank_exactMatch_rankedFirst() {
+        List<String> values = List.of("Ben Leong", "ben", "Benson");
+        assertEquals(List.of("ben", "Ben Leong"),
+                ranker.rank(SearchPrefixCommand.NAME, "Ben", values, ONE_HOLDER, 2));
+    }
+
+    @Test
+    public void rank_selectedValues_rankedByCountThenRecency() {
+        ranker.recordSelection(SearchPrefixCommand.NAME, "Allen");
+        ranker.recordSelection(SearchPrefixCommand.NAME, "Allen");
+        ranker.recordSelection(SearchPrefixCommand.NAME, "Alvin");
+        ranker.recordSelection(SearchPrefixCommand.NAME, "Alice");
+
+        // selections of another field -> not counted
+        ranker.recordSelection(SearchPrefixCommand.TAG, "Alex");
+
+        List<String> values = List.of("Alex", "Alice", "Allen", "Alvin");
+        assertEquals(List.of("Allen", "Alice", "Alvin", "Alex"),
+                ranker.rank(SearchPrefixCommand.NAME, "al", values, ONE_HOLDER, 10));
+    }
+
+    @Test
+    public void rank_valuesHeldByMorePersons_rankedFirst() {
+        Map<String, Integer> holderCounts = Map.of("family", 1, "friends", 5, "foodies", 2);
+        assertEquals(List.of("friends", "foodies"),
+                ranker.rank(SearchPrefixCommand.TAG, "f", List.of("family", "foodies", "friends"),
+                        holderCounts::get, 2));
+    }
+}
@@ -10,8 +10,12 @@ import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
 import static soconnect.logic.parser.CliSyntax.PREFIX_PHONE;
 import static soconnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.CARL;
+import static soconnect.testutil.TypicalPersons.DANIEL;
 import static soconnect.testutil.TypicalPersons.getTypicalSoConnect;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
@@ -106,4 +110,31 @@ public class SearchCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_noExactMatch_fallsBackToRelevantPersons() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        ArgumentMultimap misspeltName = ArgumentTokenizer.tokenize(" n/Kurzl",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        ContactContainsAllKeywordsPredicate predicate = new ContactContainsAllKeywordsPredicate(misspeltName);
+        ContactMightBeRelevantPredicate alternativePredicate = new ContactMightBeRelevantPredicate(misspeltName, false);
+        ContactMightBeRelevantPredicate leastAccuratePredicate =
+                new ContactMightBeRelevantPredicate(misspeltName, true);
+        SearchCommand command = new SearchCommand(predicate, alternativePredicate, leastAccuratePredicate);
+        expectedModel.updateFilteredPersonList(leastAccuratePredicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_exactMatch_doesNotFallBack() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        ArgumentMultimap exactName = ArgumentTokenizer.tokenize(" n/Meier",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        ContactContainsAllKeywordsPredicate predicate = new ContactContainsAllKeywordsPredicate(exactName);
+        SearchCommand command = new SearchCommand(predicate, new ContactMightBeRelevantPredicate(exactName, false),
+                new ContactMightBeRelevantPredicate(exactName, true));
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
 }
@@ -9,6 +9,7 @@ import static soconnect.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -265,6 +266,11 @@ class SortCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public CompletableFuture<Void> updateFilteredPersonListByTiers(List<Predicate<Person>> tiers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Todo> getFilteredTodoList() {
             throw new AssertionError("This method should not be called.");
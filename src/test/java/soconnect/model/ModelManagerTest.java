@@ -3,21 +3,45 @@ package soconnect.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static soconnect.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static soconnect.logic.parser.CliSyntax.PREFIX_PHONE;
+import static soconnect.logic.parser.CliSyntax.PREFIX_TAG;
 import static soconnect.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static soconnect.testutil.Assert.assertThrows;
 import static soconnect.testutil.TypicalPersons.ALICE;
 import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.DANIEL;
+import static soconnect.testutil.TypicalPersons.getTypicalSoConnect;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import soconnect.commons.core.GuiSettings;
+import soconnect.logic.parser.ArgumentMultimap;
+import soconnect.logic.parser.ArgumentTokenizer;
 import soconnect.model.person.NameContainsKeywordsPredicate;
+import soconnect.model.person.Person;
+import soconnect.model.person.search.ContactContainsAllKeywordsPredicate;
 import soconnect.model.tag.Tag;
+import soconnect.model.todo.Date;
+import soconnect.model.todo.Description;
+import soconnect.model.todo.Priority;
+import soconnect.model.todo.Todo;
+import soconnect.testutil.PersonBuilder;
 import soconnect.testutil.SoConnectBuilder;
 
 public class ModelManagerTest {
@@ -97,6 +121,97 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_filtersEditedPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" n/Meier",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        modelManager.updateFilteredPersonList(new ContactContainsAllKeywordsPredicate(argMultimap));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        assertEquals(Arrays.asList(aliceMeier, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Collections.singletonList(aliceMeier), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByTiers_aboveParallelThreshold_sameResultAsSequential() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" n/Meier",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        List<Predicate<Person>> tiers = Arrays.asList(
+                new ContactContainsAllKeywordsPredicate(argMultimap), PREDICATE_SHOW_ALL_PERSONS);
+        modelManager = new ModelManager(getTypicalSoConnect(), new TodoList(), new UserPrefs());
+        modelManager.updateFilteredPersonListByTiers(tiers);
+
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelSearchThreshold(0);
+        ModelManager parallelModelManager = new ModelManager(getTypicalSoConnect(), new TodoList(), parallelUserPrefs);
+        parallelModelManager.updateFilteredPersonListByTiers(tiers).join();
+
+        assertEquals(modelManager.getFilteredPersonList(), parallelModelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON, DANIEL), parallelModelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByTiers_emptyKeywordAboveParallelThreshold_throwsIllegalArgumentException() {
+        BlockingQueue<Runnable> searchResults = new LinkedBlockingQueue<>();
+        modelManager = getBackgroundSearchModelManager(searchResults);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" n/Meier a/",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        List<Predicate<Person>> tiers = Arrays.asList(
+                new ContactContainsAllKeywordsPredicate(argMultimap), PREDICATE_SHOW_ALL_PERSONS);
+
+        assertThrows(IllegalArgumentException.class, () -> modelManager.updateFilteredPersonListByTiers(tiers));
+        assertTrue(searchResults.isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonListByTiers_filterUpdatedDuringSearch_resultDiscarded() throws Exception {
+        BlockingQueue<Runnable> searchResults = new LinkedBlockingQueue<>();
+        modelManager = getBackgroundSearchModelManager(searchResults);
+        CompletableFuture<Void> search = modelManager.updateFilteredPersonListByTiers(getMeierTiers());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        searchResults.take().run();
+        assertTrue(search.isDone());
+        assertEquals(modelManager.getSoConnect().getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByTiers_personsChangedDuringSearch_searchedAgain() throws Exception {
+        BlockingQueue<Runnable> searchResults = new LinkedBlockingQueue<>();
+        modelManager = getBackgroundSearchModelManager(searchResults);
+        CompletableFuture<Void> search = modelManager.updateFilteredPersonListByTiers(getMeierTiers());
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+
+        searchResults.take().run();
+        assertFalse(search.isDone());
+        searchResults.take().run();
+        assertTrue(search.isDone());
+        assertEquals(Arrays.asList(aliceMeier, BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the typical persons that searches them in the background and queues the
+     * results in {@code searchResults} to be applied.
+     */
+    private static ModelManager getBackgroundSearchModelManager(BlockingQueue<Runnable> searchResults) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelSearchThreshold(0);
+        return new ModelManager(getTypicalSoConnect(), new TodoList(), userPrefs, searchResults::add);
+    }
+
+    private static List<Predicate<Person>> getMeierTiers() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" n/Meier",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        return Arrays.asList(new ContactContainsAllKeywordsPredicate(argMultimap), PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Test
     public void equals() {
         SoConnect soConnect = new SoConnectBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -135,6 +250,41 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(soConnect, todoList, differentUserPrefs)));
     }
 
+    @Test
+    public void editTag_tagOfTodo_todoHoldsTagOfTagList() {
+        Tag friends = new Tag("friends");
+        modelManager.addTag(friends);
+        modelManager.addTodo(new Todo(new Description("Call Alice"), new Date("01-12-2026"), new Priority("high"),
+                Set.of(friends)));
+
+        Tag family = new Tag("family");
+        modelManager.editTag(friends, family);
+        Tag todoTag = modelManager.getFilteredTodoList().get(0).getTags().iterator().next();
+        assertEquals(family, todoTag);
+        assertSame(modelManager.getTagFromList(family), todoTag);
+    }
+
+    @Test
+    public void deleteTag_todosMovedByRemoval_tagRemovedFromEachHolder() {
+        Tag friends = new Tag("friends");
+        modelManager.addTag(friends);
+        Todo first = new Todo(new Description("Call Alice"), new Date("01-12-2026"), new Priority("high"),
+                Set.of(friends));
+        Todo second = new Todo(new Description("Call Bob"), new Date("02-12-2026"), new Priority("high"),
+                Set.of(friends));
+        Todo third = new Todo(new Description("Call Carl"), new Date("03-12-2026"), new Priority("high"),
+                Set.of(friends));
+        modelManager.addTodo(first);
+        modelManager.addTodo(second);
+        modelManager.addTodo(third);
+        modelManager.deleteTodo(first);
+
+        modelManager.deleteTag(friends);
+        assertEquals(List.of(new Todo(second.getDescription(), second.getDate(), second.getPriority(), Set.of()),
+                new Todo(third.getDescription(), third.getDate(), third.getPriority(), Set.of())),
+                modelManager.getFilteredTodoList());
+    }
+
     @Test
     void sortByName() {
         ModelManager sampleA = new ModelManager();
@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static soconnect.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
 import static soconnect.testutil.Assert.assertThrows;
 import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BOB;
 import static soconnect.testutil.TypicalPersons.getTypicalSoConnect;
 
 import java.util.ArrayList;
@@ -14,6 +16,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +84,44 @@ public class SoConnectTest {
         assertTrue(soConnect.hasPerson(editedAlice));
     }
 
+    @Test
+    public void addPerson_tagInTagList_tagInstanceShared() {
+        soConnect.addTag(new Tag("friends"));
+        soConnect.addPerson(new PersonBuilder(ALICE).withTags("friends").build());
+        soConnect.addPerson(new PersonBuilder(ALICE).withName("Alice Tan").withTags("friends").build());
+
+        Tag friends = soConnect.getTagList().get(0);
+        for (Person person : soConnect.getPersonList()) {
+            assertTrue(person.getTags().iterator().next() == friends);
+        }
+    }
+
+    @Test
+    public void resetData_soConnectWithTags_personsShared() {
+        SoConnect source = new SoConnect();
+        source.setTags(List.of(new Tag("owesMoney"), new Tag("friends")));
+        source.setPersons(TypicalPersons.getTypicalPersons());
+        soConnect.resetData(source);
+        // the tags are numbered in the same order, so the persons keep their tags and are not copied
+        assertTrue(soConnect.getPersonList().get(0) == source.getPersonList().get(0));
+    }
+
+    @Test
+    public void sortByTag_tagsDeletedAndCreated_holdersFirst() {
+        soConnect.setTags(List.of(new Tag("friends"), new Tag("family")));
+        soConnect.addPerson(new PersonBuilder(ALICE).withTags("friends").build());
+        soConnect.addPerson(new PersonBuilder(BOB).withTags("family").build());
+
+        // the created tag is given the ordinal of the deleted tag, which nobody holds any more
+        soConnect.deleteTag(new Tag("friends"));
+        soConnect.addTag(new Tag("fans"));
+        soConnect.sortByTag(new Tag("fans"), false);
+        assertEquals(List.of(ALICE.getName(), BOB.getName()), soConnect.getPersonList().stream()
+                .map(Person::getName).collect(Collectors.toList()));
+        soConnect.sortByTag(new Tag("family"), false);
+        assertEquals(BOB.getName(), soConnect.getPersonList().get(0).getName());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> soConnect.getPersonList().remove(0));
@@ -196,6 +238,27 @@ public class SoConnectTest {
         public int getTagReference(Tag tag) {
             return this.tags.indexOf(tag);
         }
+
+        @Override
+        public List<String> findValuesWithPrefix(SearchPrefixCommand field, String prefix,
+                                                 Predicate<Person> holderFilter, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasPersonWithValue(SearchPrefixCommand field, String value, Predicate<Person> holderFilter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countPersonsWithValue(SearchPrefixCommand field, String value) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> findTagNamesWithPrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
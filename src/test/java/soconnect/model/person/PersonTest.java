@@ -22,6 +22,12 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getTags_calledTwice_sameInstance() {
+        Person person = new PersonBuilder().withTags("friends", "colleagues").build();
+        assertTrue(person.getTags() == person.getTags());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,92 @@
+package soconnect.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchableTextTest {
+
+    private static final String TEXT = "ABc  def";
+
+    @Test
+    public void getWords_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SearchableText.getWords(null));
+    }
+
+    @Test
+    public void getWords() {
+        assertEquals(Arrays.asList("ABC", "DEF"), SearchableText.getWords(TEXT));
+        assertThrows(UnsupportedOperationException.class, () -> SearchableText.getWords(TEXT).set(0, "GHI"));
+    }
+
+    @Test
+    public void containsWords() {
+        // full words in any order -> returns true
+        assertTrue(SearchableText.containsWords(TEXT, new String[] {"ABC"}));
+        assertTrue(SearchableText.containsWords(TEXT, new String[] {"DEF", "ABC"}));
+        assertTrue(SearchableText.containsWords(TEXT, new String[] {}));
+
+        // partial word -> returns false
+        assertFalse(SearchableText.containsWords(TEXT, new String[] {"AB"}));
+
+        // one missing word -> returns false
+        assertFalse(SearchableText.containsWords(TEXT, new String[] {"ABC", "GHI"}));
+    }
+
+    @Test
+    public void getWords_surroundingWhitespace_wordsOnly() {
+        assertEquals(Arrays.asList("ABC", "DEF"), SearchableText.getWords(" abc\tDef "));
+        assertEquals(Arrays.asList("ABC"), SearchableText.getWords("aBc"));
+        assertEquals(Arrays.asList(), SearchableText.getWords(" "));
+    }
+
+    @Test
+    public void containsWords_singleWordText_wholeTextMatchedIgnoringCase() {
+        String email = "alice@example.com";
+        assertTrue(SearchableText.containsWords(email, new String[] {"ALICE@EXAMPLE.COM"}));
+        assertFalse(SearchableText.containsWords(email, new String[] {"ALICE"}));
+    }
+
+    @Test
+    public void containsCharacters() {
+        // characters in any order -> returns true
+        assertTrue(SearchableText.containsCharacters(TEXT, "FCA", 3));
+
+        // missing character beyond count -> returns true
+        assertTrue(SearchableText.containsCharacters(TEXT, "FCAZ", 3));
+
+        // missing character within count -> returns false
+        assertFalse(SearchableText.containsCharacters(TEXT, "FCAZ", 4));
+    }
+
+    @Test
+    public void containsCharacters_characterMask() {
+        assertTrue(SearchableText.containsCharacters(TEXT, SearchableText.toCharacterMask("FCA", 3)));
+        assertTrue(SearchableText.containsCharacters(TEXT, SearchableText.toCharacterMask("FCAZ", 3)));
+        assertFalse(SearchableText.containsCharacters(TEXT, SearchableText.toCharacterMask("FCAZ", 4)));
+
+        // digits have their own bits
+        String phone = "94351253";
+        assertTrue(SearchableText.containsCharacters(phone, SearchableText.toCharacterMask("5319", 4)));
+        assertFalse(SearchableText.containsCharacters(phone, SearchableText.toCharacterMask("0", 1)));
+    }
+
+    @Test
+    public void containsCharacters_characterMaskOfNoCharacters_returnsTrue() {
+        assertTrue(SearchableText.containsCharacters("", SearchableText.toCharacterMask("", 0)));
+        assertTrue(SearchableText.containsCharacters(" - ", SearchableText.toCharacterMask("", 0)));
+    }
+
+    @Test
+    public void toCharacterMask_notLetterOrDigit_returnsNoCharacterMask() {
+        assertEquals(SearchableText.NO_CHARACTER_MASK, SearchableText.toCharacterMask("A B", 3));
+
+        // characters beyond count are ignored
+        assertEquals(SearchableText.toCharacterMask("A", 1), SearchableText.toCharacterMask("A B", 1));
+    }
+}
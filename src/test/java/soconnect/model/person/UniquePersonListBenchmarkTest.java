@@ -0,0 +1,206 @@
+package soconnect.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BOB;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import soconnect.model.person.exceptions.DuplicatePersonException;
+import soconnect.testutil.PersonBuilder;
+
+/**
+ * Times the operations of {@code UniquePersonList} on lists of several sizes, so that their growth with the size of
+ * the list can be compared. Run with {@code gradlew benchmark}; it is left out of the tests.
+ */
+@Tag("benchmark")
+public class UniquePersonListBenchmarkTest {
+
+    /** The sizes compared, up to the 1,000,000 persons of a very large book. */
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+    /**
+     * How many times longer an operation may take per person on a larger list than on the smallest one.
+     * An operation that grows with the square of the size would take 100 times longer per person at 1,000,000.
+     */
+    private static final double MAX_GROWTH_PER_PERSON = 10;
+
+    /** The number of persons edited, then removed, in each list. */
+    private static final int CHANGE_COUNT = 1000;
+
+    /**
+     * The bytes of heap that a person in a {@code UniquePersonList} may take, with its search index entries.
+     */
+    private static final long MAX_BYTES_PER_PERSON = 900;
+
+    @Test
+    public void setPersons_largeLists_duplicatesFoundInLinearTime() {
+        // The first run also warms up the JIT, so it is left out of the comparison
+        timeSetPersons(SIZES[0]);
+        double[] setTimes = new double[SIZES.length];
+        double[] duplicateTimes = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            long[] times = timeSetPersons(SIZES[i]);
+            report("setPersons", SIZES[i], times[0], "ns in total");
+            report("setPersons with a duplicate", SIZES[i], times[1], "ns in total");
+            setTimes[i] = (double) times[0] / SIZES[i];
+            duplicateTimes[i] = (double) times[1] / SIZES[i];
+        }
+
+        assertBoundedGrowth("setPersons", setTimes);
+        assertBoundedGrowth("setPersons with a duplicate", duplicateTimes);
+    }
+
+    @Test
+    public void contains_largeLists_constantTime() {
+        timeContains(SIZES[0]);
+        double[] containsTimes = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            long time = timeContains(SIZES[i]);
+            report("contains", SIZES[i], time / SIZES[i], "ns per person");
+            containsTimes[i] = (double) time / SIZES[i];
+        }
+
+        assertBoundedGrowth("contains", containsTimes);
+    }
+
+    @Test
+    public void setPersonAndRemove_largeLists_constantTime() {
+        timeSetPersonAndRemove(SIZES[0]);
+        double[] setTimes = new double[SIZES.length];
+        double[] removeTimes = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            long[] times = timeSetPersonAndRemove(SIZES[i]);
+            report("setPerson", SIZES[i], times[0] / CHANGE_COUNT, "ns per edit");
+            report("remove", SIZES[i], times[1] / CHANGE_COUNT, "ns per removal");
+            setTimes[i] = (double) times[0] / CHANGE_COUNT;
+            removeTimes[i] = (double) times[1] / CHANGE_COUNT;
+        }
+
+        assertBoundedGrowth("setPerson", setTimes);
+        assertBoundedGrowth("remove", removeTimes);
+    }
+
+    @Test
+    public void persons_largeLists_heapPerPersonReported() {
+        for (int size : SIZES) {
+            long before = getUsedHeap();
+            UniquePersonList uniquePersonList = new UniquePersonList();
+            uniquePersonList.setPersons(getPersons(size));
+            long bytesPerPerson = (getUsedHeap() - before) / size;
+            report("heap", size, bytesPerPerson, "bytes per person");
+
+            assertTrue(uniquePersonList.contains(new PersonBuilder(ALICE).withName("Person 0").build()));
+            assertTrue(bytesPerPerson <= MAX_BYTES_PER_PERSON, String.format("%,d persons took %,d bytes per person",
+                    size, bytesPerPerson));
+        }
+    }
+
+    /**
+     * Returns the nanoseconds taken by {@code setPersons} on {@code size} persons, then on the same persons with a
+     * duplicate added.
+     */
+    private static long[] timeSetPersons(int size) {
+        List<Person> persons = getPersons(size);
+        UniquePersonList uniquePersonList = new UniquePersonList();
+
+        long start = System.nanoTime();
+        uniquePersonList.setPersons(persons);
+        long setTime = System.nanoTime() - start;
+        assertTrue(uniquePersonList.contains(persons.get(size - 1)));
+
+        persons.add(new PersonBuilder(BOB).withName("Person 0").build());
+        start = System.nanoTime();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(persons));
+        long duplicateTime = System.nanoTime() - start;
+        return new long[] {setTime, duplicateTime};
+    }
+
+    /**
+     * Returns the nanoseconds taken in total by {@code contains} on each of {@code size} persons in a list of them.
+     */
+    private static long timeContains(int size) {
+        List<Person> persons = getPersons(size);
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+
+        long start = System.nanoTime();
+        for (Person person : persons) {
+            assertTrue(uniquePersonList.contains(person));
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the nanoseconds taken by {@code setPerson} on {@code CHANGE_COUNT} persons spread over a list of
+     * {@code size} persons, then by {@code remove} on the last {@code CHANGE_COUNT} persons, which were not edited,
+     * from the first of them, so that each removal moves the persons to be removed next.
+     */
+    private static long[] timeSetPersonAndRemove(int size) {
+        List<Person> persons = getPersons(size);
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CHANGE_COUNT; i++) {
+            Person person = persons.get((int) ((long) i * (size - CHANGE_COUNT) / CHANGE_COUNT));
+            uniquePersonList.setPerson(person, new PersonBuilder(person).withPhone("98765432").build());
+        }
+        long setTime = System.nanoTime() - start;
+
+        List<Person> removedPersons = persons.subList(size - CHANGE_COUNT, size);
+        start = System.nanoTime();
+        for (Person person : removedPersons) {
+            uniquePersonList.remove(person);
+        }
+        long removeTime = System.nanoTime() - start;
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().size() == size - CHANGE_COUNT);
+        return new long[] {setTime, removeTime};
+    }
+
+    /**
+     * Asserts that the time per person of {@code operation} on each size is at most {@code MAX_GROWTH_PER_PERSON}
+     * times its time per person on the smallest size.
+     */
+    private static void assertBoundedGrowth(String operation, double[] nanosPerPerson) {
+        for (int i = 1; i < SIZES.length; i++) {
+            double growth = nanosPerPerson[i] / nanosPerPerson[0];
+            assertTrue(growth <= MAX_GROWTH_PER_PERSON, String.format("%s took %.1f times longer per person on %,d "
+                    + "persons than on %,d persons", operation, growth, SIZES[i], SIZES[0]));
+        }
+    }
+
+    /**
+     * Returns the bytes of the heap in use after a garbage collection.
+     */
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns {@code size} persons with the details of {@code ALICE} but a name of their own.
+     */
+    private static List<Person> getPersons(int size) {
+        List<Person> persons = new ArrayList<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    /**
+     * Prints {@code amount} of {@code unit} measured for {@code operation} on a list of {@code size} persons.
+     */
+    private static void report(String operation, int size, long amount, String unit) {
+        System.out.printf("%-28s on %,9d persons: %,14d %s%n", operation, size, amount, unit);
+    }
+}
@@ -9,6 +9,9 @@ import static soconnect.testutil.Assert.assertThrows;
 import static soconnect.testutil.TypicalPersons.ALICE;
 import static soconnect.testutil.TypicalPersons.BENSON;
 import static soconnect.testutil.TypicalPersons.BOB;
+import static soconnect.testutil.TypicalPersons.CARL;
+import static soconnect.testutil.TypicalPersons.DANIEL;
+import static soconnect.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -104,6 +107,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +140,32 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButOtherFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterRemovalsAndSort_personsChangedInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(CARL);
+        Person editedElle = new PersonBuilder(ELLE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ELLE, editedElle);
+        uniquePersonList.remove(BENSON);
+        assertEquals(Arrays.asList(DANIEL, editedElle), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sortByName(true);
+        Person editedDaniel = new PersonBuilder(DANIEL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(DANIEL, editedDaniel);
+        uniquePersonList.remove(editedElle);
+        assertEquals(Arrays.asList(editedDaniel, ALICE), uniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
@@ -156,6 +195,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -164,6 +205,15 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsDuplicatePerson() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, new DuplicatePersonException(editedAlice).getMessage(), ()
+            -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -255,4 +305,62 @@ public class UniquePersonListTest {
         sampleA.sortByTag(new Tag("owesMoney"), true);
         assertNotEquals(sampleA, sampleB);
     }
+
+    @Test
+    public void changeRelevantPersonTag_updatesOnlyHolders() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.changeRelevantPersonTag(new Tag("owesMoney"), new Tag("owesLoan"));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(new PersonBuilder(BENSON).withTags("owesLoan", "friends").build());
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+
+        // the updated holder is found by the new tag
+        uniquePersonList.removeRelevantPersonTag(new Tag("owesLoan"));
+        assertEquals(new PersonBuilder(BENSON).withTags("friends").build(),
+                uniquePersonList.asUnmodifiableObservableList().get(1));
+    }
+
+    @Test
+    public void removeRelevantPersonTag_updatesOnlyHolders() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.removeRelevantPersonTag(new Tag("friends"));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(new PersonBuilder(ALICE).withTags().build());
+        expectedUniquePersonList.add(new PersonBuilder(BENSON).withTags("owesMoney").build());
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void removeRelevantPersonTag_holdersMovedByRemovals_holdersUpdatedInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, DANIEL, BENSON));
+        uniquePersonList.remove(CARL);
+        uniquePersonList.removeRelevantPersonTag(new Tag("friends"));
+
+        Person updatedAlice = new PersonBuilder(ALICE).withTags().build();
+        Person updatedDaniel = new PersonBuilder(DANIEL).withTags().build();
+        Person updatedBenson = new PersonBuilder(BENSON).withTags("owesMoney").build();
+        assertEquals(Arrays.asList(updatedAlice, updatedDaniel, updatedBenson),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeRelevantPersonTag_afterRemoveAndEdit_updatesCurrentHolders() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BENSON, new PersonBuilder(BENSON).withTags("owesMoney").build());
+
+        // removed and edited persons no longer hold their old tags
+        uniquePersonList.removeRelevantPersonTag(new Tag("friends"));
+        assertEquals(List.of(new PersonBuilder(BENSON).withTags("owesMoney").build()),
+                uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.removeRelevantPersonTag(new Tag("owesMoney"));
+        assertEquals(List.of(new PersonBuilder(BENSON).withTags().build()),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
 }
@@ -0,0 +1,93 @@
+package soconnect.model.person.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static soconnect.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static soconnect.logic.parser.CliSyntax.PREFIX_PHONE;
+import static soconnect.logic.parser.CliSyntax.PREFIX_TAG;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import soconnect.logic.parser.ArgumentTokenizer;
+import soconnect.model.person.Person;
+import soconnect.testutil.PersonBuilder;
+
+public class ContactContainsAllKeywordsPredicateTest {
+
+    private static ContactContainsAllKeywordsPredicate predicateOf(String args) {
+        return new ContactContainsAllKeywordsPredicate(ArgumentTokenizer.tokenize(args,
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG));
+    }
+
+    @Test
+    public void test_noPrefix_returnsTrue() {
+        assertTrue(predicateOf("and").test(ALICE));
+    }
+
+    @Test
+    public void test_allFieldsMatch_returnsTrue() {
+        // mixed case, words in any order
+        assertTrue(predicateOf(" n/pAULINE alice t/FRIENDS").test(ALICE));
+
+        // every keyword of the same prefix
+        assertTrue(predicateOf(" n/Benson n/Meier t/friends t/owesmoney").test(BENSON));
+    }
+
+    @Test
+    public void test_someFieldsDoNotMatch_returnsFalse() {
+        // partial word
+        assertFalse(predicateOf(" n/Ali").test(ALICE));
+
+        // one prefix does not match
+        assertFalse(predicateOf(" n/Alice t/owesMoney").test(ALICE));
+
+        // words of one keyword from different tags
+        assertFalse(predicateOf(" t/friends owesMoney").test(BENSON));
+    }
+
+    @Test
+    public void test_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> predicateOf(" n/Alice p/ ").test(ALICE));
+
+        // an empty tag keyword is never matched against a person without tags
+        assertFalse(predicateOf(" n/Alice t/ ").test(CARL));
+    }
+
+    @Test
+    public void test_parallelStream_sameResultsAsSequential() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            persons.add(new PersonBuilder(i % 2 == 0 ? ALICE : BENSON).withName("Person " + (i % 7)).build());
+        }
+        ContactContainsAllKeywordsPredicate predicate = predicateOf(" n/person 3 t/friends");
+
+        List<Person> sequentialMatches = persons.stream().filter(predicate).collect(Collectors.toList());
+        List<Person> parallelMatches = persons.parallelStream().filter(predicate).collect(Collectors.toList());
+        assertEquals(sequentialMatches, parallelMatches);
+        assertEquals(1429, sequentialMatches.size()); // i = 3, 10, ..., 9999
+    }
+
+    @Test
+    public void equals() {
+        ContactContainsAllKeywordsPredicate predicate = predicateOf(" n/Alice t/friends");
+
+        // same keywords -> returns true
+        assertEquals(predicate, predicateOf(" n/Alice t/friends"));
+        assertEquals(predicate.hashCode(), predicateOf(" n/Alice t/friends").hashCode());
+
+        // different keywords -> returns false
+        assertNotEquals(predicate, predicateOf(" n/Alice"));
+    }
+}
@@ -0,0 +1,80 @@
+package soconnect.model.person.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static soconnect.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static soconnect.logic.parser.CliSyntax.PREFIX_PHONE;
+import static soconnect.logic.parser.CliSyntax.PREFIX_TAG;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.getTypicalPersons;
+
+import org.junit.jupiter.api.Test;
+
+import soconnect.commons.util.StringUtil;
+import soconnect.logic.parser.ArgumentTokenizer;
+import soconnect.model.person.Person;
+
+public class ContactMightBeRelevantPredicateTest {
+
+    private static ContactMightBeRelevantPredicate predicateOf(String args, boolean isSearchAccuracyReduced) {
+        return new ContactMightBeRelevantPredicate(ArgumentTokenizer.tokenize(args,
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG), isSearchAccuracyReduced);
+    }
+
+    @Test
+    public void test_charactersInAnyOrder_returnsTrue() {
+        assertTrue(predicateOf(" n/ecila", false).test(ALICE));
+        assertTrue(predicateOf(" p/3521", false).test(ALICE));
+        assertTrue(predicateOf(" t/yenomsewo", false).test(BENSON));
+    }
+
+    @Test
+    public void test_missingCharacter_returnsFalse() {
+        // only the last quarter of the characters is missing
+        assertFalse(predicateOf(" n/alicz", false).test(ALICE));
+        assertTrue(predicateOf(" n/alicz", true).test(ALICE));
+
+        // no letters or digits
+        assertFalse(predicateOf(" n/!!!", true).test(ALICE));
+    }
+
+    @Test
+    public void test_sameResultsAsStringUtil() {
+        String[] keywords = {"alice", "Meier", "zzz", "a+l+e+x", "9435", "friendz", "!!!", "exampl.com"};
+        for (String keyword : keywords) {
+            for (boolean isSearchAccuracyReduced : new boolean[] {false, true}) {
+                ContactMightBeRelevantPredicate predicate = predicateOf(" n/" + keyword + " e/" + keyword + " t/"
+                        + keyword, isSearchAccuracyReduced);
+                for (Person person : getTypicalPersons()) {
+                    boolean isExpected = StringUtil.containsSomeKeywordsIgnoreCase(person.getName().fullName,
+                            keyword, isSearchAccuracyReduced)
+                            || StringUtil.containsSomeKeywordsIgnoreCase(person.getEmail().value,
+                            keyword, isSearchAccuracyReduced)
+                            || person.getTags().stream().anyMatch(tag -> StringUtil.containsSomeKeywordsIgnoreCase(
+                            tag.tagName, keyword, isSearchAccuracyReduced));
+                    assertEquals(isExpected, predicate.test(person), keyword + " " + person);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        ContactMightBeRelevantPredicate predicate = predicateOf(" n/Alice", false);
+
+        // same keywords and accuracy -> returns true
+        assertEquals(predicate, predicateOf(" n/Alice", false));
+        assertEquals(predicate.hashCode(), predicateOf(" n/Alice", false).hashCode());
+
+        // different accuracy -> returns false
+        assertNotEquals(predicate, predicateOf(" n/Alice", true));
+
+        // different keywords -> returns false
+        assertNotEquals(predicate, predicateOf(" n/Bob", false));
+    }
+}
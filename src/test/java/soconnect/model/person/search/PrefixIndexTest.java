@@ -0,0 +1,144 @@
+package soconnect.model.person.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.CARL;
+import static soconnect.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import soconnect.model.person.Person;
+import soconnect.testutil.PersonBuilder;
+
+public class PrefixIndexTest {
+
+    private static final Predicate<Person> ANY_HOLDER = unused -> true;
+    private static final int LIMIT = 10;
+
+    private final PrefixIndex prefixIndex = new PrefixIndex();
+
+    @BeforeEach
+    public void setUp() {
+        prefixIndex.setAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void findValuesWithPrefix_nullPrefix_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                prefixIndex.findValuesWithPrefix(SearchPrefixCommand.NAME, null, ANY_HOLDER, LIMIT));
+    }
+
+    @Test
+    public void findValuesWithPrefix_prefixIgnoringCase_returnsValuesInOrder() {
+        assertEquals(List.of("Benson Meier"), findValues(SearchPrefixCommand.NAME, "bEn", ANY_HOLDER));
+        assertEquals(List.of("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier"),
+                findValues(SearchPrefixCommand.NAME, "", ANY_HOLDER));
+        assertEquals(List.of("10th street"), findValues(SearchPrefixCommand.ADDRESS, "10", ANY_HOLDER));
+
+        // values held by many persons are found once
+        assertEquals(List.of("friends"), findValues(SearchPrefixCommand.TAG, "FR", ANY_HOLDER));
+
+        // prefix in the middle of a value -> no values
+        assertEquals(List.of(), findValues(SearchPrefixCommand.NAME, "Meier", ANY_HOLDER));
+    }
+
+    @Test
+    public void findValuesWithPrefix_limit_returnsFirstValues() {
+        assertEquals(List.of("Alice Pauline", "Benson Meier"),
+                prefixIndex.findValuesWithPrefix(SearchPrefixCommand.NAME, "", ANY_HOLDER, 2));
+    }
+
+    @Test
+    public void findValuesWithPrefix_valuesEqualIgnoringCase_returnsEachValue() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName("ALICE PAULINE").build();
+        prefixIndex.add(upperCaseAlice);
+
+        assertEquals(List.of("ALICE PAULINE", "Alice Pauline"),
+                findValues(SearchPrefixCommand.NAME, "alice pauline", ANY_HOLDER));
+        assertEquals(List.of("ALICE PAULINE", "Alice Pauline"),
+                findValues(SearchPrefixCommand.NAME, "Alice Pauline", ANY_HOLDER));
+    }
+
+    @Test
+    public void findValuesWithPrefix_holderFilter_returnsValuesOfAcceptedHolders() {
+        assertEquals(List.of("friends"),
+                findValues(SearchPrefixCommand.TAG, "", person -> person == DANIEL));
+        assertEquals(List.of("Benson Meier", "Daniel Meier"),
+                findValues(SearchPrefixCommand.NAME, "", person -> person.getName().fullName.endsWith("Meier")));
+    }
+
+    @Test
+    public void findValuesWithPrefix_acceptedHolderPastFirstValues_returnsValue() {
+        assertEquals(List.of("Daniel Meier"),
+                prefixIndex.findValuesWithPrefix(SearchPrefixCommand.NAME, "", person -> person == DANIEL, 1));
+    }
+
+    @Test
+    public void findValuesWithPrefix_holderFilterChangesIndexFromOtherThread_doesNotBlock() throws Exception {
+        Person elle = new PersonBuilder(ALICE).withName("Elle Meyer").build();
+        boolean[] isAdded = new boolean[1];
+        Predicate<Person> addingFilter = person -> {
+            Thread thread = new Thread(() -> prefixIndex.add(elle));
+            thread.start();
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            isAdded[0] = !thread.isAlive();
+            return true;
+        };
+
+        assertEquals(List.of("Alice Pauline"), findValues(SearchPrefixCommand.NAME, "a", addingFilter));
+        assertTrue(isAdded[0]);
+        assertEquals(List.of("Elle Meyer"), findValues(SearchPrefixCommand.NAME, "e", ANY_HOLDER));
+    }
+
+    @Test
+    public void hasHolder_holderFilter_returnsWhetherAcceptedPersonHoldsValue() {
+        assertTrue(prefixIndex.hasHolder(SearchPrefixCommand.TAG, "friends", person -> person == DANIEL));
+        assertFalse(prefixIndex.hasHolder(SearchPrefixCommand.TAG, "friends", person -> person == CARL));
+
+        // values are compared exactly
+        assertFalse(prefixIndex.hasHolder(SearchPrefixCommand.TAG, "Friends", ANY_HOLDER));
+    }
+
+    @Test
+    public void countHolders_valuesOfField_returnsNumberOfHolders() {
+        assertEquals(3, prefixIndex.countHolders(SearchPrefixCommand.TAG, "friends"));
+        assertEquals(1, prefixIndex.countHolders(SearchPrefixCommand.NAME, "Carl Kurz"));
+
+        // values are compared exactly
+        assertEquals(0, prefixIndex.countHolders(SearchPrefixCommand.TAG, "Friends"));
+        assertEquals(0, prefixIndex.countHolders(SearchPrefixCommand.ADDRESS, "Carl Kurz"));
+    }
+
+    @Test
+    public void replace_editedPerson_indexesEditedValues() {
+        Person editedBenson = new PersonBuilder(BENSON).withName("Bernard Meier").withTags("colleagues").build();
+        prefixIndex.replace(BENSON, editedBenson);
+
+        assertEquals(List.of("Bernard Meier"), findValues(SearchPrefixCommand.NAME, "be", ANY_HOLDER));
+        assertEquals(List.of("colleagues", "friends"), findValues(SearchPrefixCommand.TAG, "", ANY_HOLDER));
+
+        // the value is kept while another person holds it
+        prefixIndex.remove(ALICE);
+        assertEquals(List.of("friends"), findValues(SearchPrefixCommand.TAG, "f", ANY_HOLDER));
+        prefixIndex.remove(DANIEL);
+        assertEquals(List.of(), findValues(SearchPrefixCommand.TAG, "f", ANY_HOLDER));
+    }
+
+    private List<String> findValues(SearchPrefixCommand field, String prefix, Predicate<Person> holderFilter) {
+        return prefixIndex.findValuesWithPrefix(field, prefix, holderFilter, LIMIT);
+    }
+}
@@ -0,0 +1,131 @@
+package soconnect.model.person.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static soconnect.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static soconnect.logic.parser.CliSyntax.PREFIX_NAME;
+import static soconnect.logic.parser.CliSyntax.PREFIX_PHONE;
+import static soconnect.logic.parser.CliSyntax.PREFIX_TAG;
+import static soconnect.model.person.search.SearchPrefix.SearchPrefixCommand;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.CARL;
+import static soconnect.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import soconnect.logic.parser.ArgumentMultimap;
+import soconnect.logic.parser.ArgumentTokenizer;
+import soconnect.model.person.Person;
+import soconnect.testutil.PersonBuilder;
+
+public class SearchIndexTest {
+
+    private final SearchIndex searchIndex = new SearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex.setAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    }
+
+    @Test
+    public void findPersonsWithAllWords_emptyKeywords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                searchIndex.findPersonsWithAllWords(SearchPrefixCommand.NAME, "  "));
+    }
+
+    @Test
+    public void findPersonsWithAllWords_wordsIgnoringCase_returnsHolders() {
+        assertEquals(Set.of(BENSON, DANIEL), searchIndex.findPersonsWithAllWords(SearchPrefixCommand.NAME, "mEIER"));
+        assertEquals(Set.of(DANIEL),
+                searchIndex.findPersonsWithAllWords(SearchPrefixCommand.NAME, "meier daniel"));
+        assertEquals(Set.of(BENSON, ALICE, DANIEL),
+                searchIndex.findPersonsWithAllWords(SearchPrefixCommand.TAG, "friends"));
+
+        // partial word -> no holders
+        assertTrue(searchIndex.findPersonsWithAllWords(SearchPrefixCommand.NAME, "Mei").isEmpty());
+
+        // word in another field -> no holders
+        assertTrue(searchIndex.findPersonsWithAllWords(SearchPrefixCommand.ADDRESS, "Meier").isEmpty());
+    }
+
+    @Test
+    public void findPersonsWithAllWords_afterRemoveAndReplace_tracksHolders() {
+        searchIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), searchIndex.findPersonsWithAllWords(SearchPrefixCommand.NAME, "Meier"));
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Mueller").build();
+        searchIndex.replace(DANIEL, editedDaniel);
+        assertTrue(searchIndex.findPersonsWithAllWords(SearchPrefixCommand.NAME, "Meier").isEmpty());
+        assertEquals(Set.of(editedDaniel),
+                searchIndex.findPersonsWithAllWords(SearchPrefixCommand.NAME, "Mueller"));
+    }
+
+    @Test
+    public void findPersonsWithEachKeyword_ignoresPreamble() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("Alice n/Meier t/owesMoney",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        assertEquals(Arrays.asList(Set.of(BENSON, DANIEL), Set.of(BENSON)),
+                searchIndex.findPersonsWithEachKeyword(argMultimap));
+    }
+
+    @Test
+    public void intersection_startsFromAnySet_returnsCommonPersons() {
+        assertEquals(Set.of(BENSON),
+                SearchIndex.intersection(Arrays.asList(Set.of(ALICE, BENSON, DANIEL), Set.of(BENSON))));
+        assertTrue(SearchIndex.intersection(Arrays.asList(Set.of(ALICE), Set.of(), Set.of(ALICE))).isEmpty());
+    }
+
+    @Test
+    public void narrow_indexChanged_findsCandidatesAgain() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" n/Kurz",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        Predicate<Person> predicate = searchIndex.narrow(new ContactContainsAllKeywordsPredicate(argMultimap));
+        assertTrue(predicate.test(CARL));
+        assertFalse(predicate.test(ALICE));
+
+        Person aliceKurz = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        searchIndex.replace(ALICE, aliceKurz);
+        assertTrue(predicate.test(aliceKurz));
+    }
+
+    @Test
+    public void narrowToCurrentCandidates_indexChanged_keepsCandidates() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" n/Kurz",
+                PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+        Predicate<Person> predicate =
+                searchIndex.narrowToCurrentCandidates(new ContactContainsAllKeywordsPredicate(argMultimap));
+
+        Person aliceKurz = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        searchIndex.replace(ALICE, aliceKurz);
+        searchIndex.remove(CARL);
+        assertTrue(predicate.test(CARL));
+        assertFalse(predicate.test(aliceKurz));
+    }
+
+    @Test
+    public void narrow_noCandidates_testsEveryPerson() {
+        IndexedPredicate acceptAll = new IndexedPredicate() {
+            @Override
+            public Optional<Set<Person>> findCandidates(SearchIndex index) {
+                return Optional.empty();
+            }
+
+            @Override
+            public boolean test(Person person) {
+                return true;
+            }
+        };
+        Person unindexedPerson = new PersonBuilder().build();
+        assertTrue(searchIndex.narrow(acceptAll).test(unindexedPerson));
+    }
+}
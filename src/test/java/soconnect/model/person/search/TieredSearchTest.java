@@ -0,0 +1,114 @@
+package soconnect.model.person.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.CARL;
+import static soconnect.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import soconnect.model.person.Person;
+import soconnect.testutil.PersonBuilder;
+
+public class TieredSearchTest {
+
+    private final List<Person> persons = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
+
+    @Test
+    public void constructor_invalidTiers_throwsException() {
+        assertThrows(NullPointerException.class, () -> new TieredSearch(null));
+        assertThrows(NullPointerException.class, () -> new TieredSearch(Arrays.asList(person -> true, null)));
+        assertThrows(IllegalArgumentException.class, () -> new TieredSearch(Collections.emptyList()));
+    }
+
+    @Test
+    public void search_firstTierMatches_returnsFirstTierMatches() {
+        List<Person> testedByLastTier = new ArrayList<>();
+        TieredSearch.Result result = new TieredSearch(Arrays.asList(
+                person -> person == CARL, person -> false, person -> {
+                    testedByLastTier.add(person);
+                    return true;
+                })).search(persons);
+
+        assertEquals(0, result.getMatchedTier());
+        assertEquals(1, result.size());
+        assertTrue(result.test(CARL));
+        assertFalse(result.test(ALICE));
+
+        // less accurate tiers are not tested once a more accurate tier has matched
+        assertEquals(Arrays.asList(ALICE, BENSON), testedByLastTier);
+    }
+
+    @Test
+    public void search_onlyLaterTierMatches_returnsLaterTierMatches() {
+        TieredSearch.Result result = new TieredSearch(Arrays.asList(
+                person -> false, person -> person == BENSON || person == DANIEL, person -> true)).search(persons);
+
+        assertEquals(1, result.getMatchedTier());
+        assertEquals(2, result.size());
+        assertTrue(result.test(BENSON));
+        assertTrue(result.test(DANIEL));
+        assertFalse(result.test(ALICE));
+    }
+
+    @Test
+    public void search_noTierMatches_returnsEmptyResult() {
+        TieredSearch.Result result = new TieredSearch(Arrays.asList(person -> false, person -> false))
+                .search(persons);
+
+        assertEquals(2, result.getMatchedTier());
+        assertEquals(0, result.size());
+        assertFalse(result.test(ALICE));
+    }
+
+    @Test
+    public void test_afterMarkApplied_testsNewPersonsWithMatchedTier() {
+        Predicate<Person> isNamedMeier = person -> person.getName().fullName.endsWith("Meier");
+        TieredSearch.Result result = new TieredSearch(Arrays.asList(person -> false, isNamedMeier))
+                .search(Arrays.asList(ALICE, BENSON));
+
+        // before the result is applied, only the matched persons pass
+        assertFalse(result.test(DANIEL));
+        result.markApplied();
+        assertTrue(result.test(DANIEL));
+        assertTrue(result.test(BENSON));
+        assertFalse(result.test(ALICE));
+    }
+
+    @Test
+    public void searchInBackground_manyPersons_sameResultAsSearch() {
+        List<Person> manyPersons = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            manyPersons.add(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+        Person lastPerson = manyPersons.get(manyPersons.size() - 1);
+        Predicate<Person> isNameEndingWithSeven = person -> person.getName().fullName.endsWith("7");
+        TieredSearch tieredSearch =
+                new TieredSearch(Arrays.asList(person -> person == lastPerson, isNameEndingWithSeven));
+
+        TieredSearch.Result parallelResult = tieredSearch.searchInBackground(manyPersons).join();
+        assertEquals(0, parallelResult.getMatchedTier());
+        assertEquals(1, parallelResult.size());
+        assertTrue(parallelResult.test(lastPerson));
+
+        // only the later tier matches
+        tieredSearch = new TieredSearch(Arrays.asList(person -> false, isNameEndingWithSeven));
+        TieredSearch.Result result = tieredSearch.search(manyPersons);
+        parallelResult = tieredSearch.searchInBackground(manyPersons).join();
+        assertEquals(result.getMatchedTier(), parallelResult.getMatchedTier());
+        assertEquals(2000, parallelResult.size());
+        for (Person person : manyPersons) {
+            assertEquals(result.test(person), parallelResult.test(person));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package soconnect.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import soconnect.model.person.Person;
+import soconnect.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final TagIndex<Person> tagIndex = new TagIndex<>(Person::getTags);
+
+    @Test
+    public void getHolders_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getHolders(null));
+    }
+
+    @Test
+    public void getHolders_unknownTag_returnsEmptySet() {
+        assertTrue(tagIndex.getHolders(FRIENDS).isEmpty());
+        assertEquals(0, tagIndex.count(FRIENDS));
+    }
+
+    @Test
+    public void add_personWithTags_addsToEveryPostingList() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), tagIndex.getHolders(FRIENDS));
+        assertEquals(Set.of(BENSON), tagIndex.getHolders(OWES_MONEY));
+    }
+
+    @Test
+    public void remove_equalButDifferentInstance_keepsStoredInstance() {
+        tagIndex.add(ALICE);
+        tagIndex.remove(new PersonBuilder(ALICE).build());
+        assertEquals(1, tagIndex.count(FRIENDS));
+        tagIndex.remove(ALICE);
+        assertEquals(0, tagIndex.count(FRIENDS));
+    }
+
+    @Test
+    public void replace_tagsChanged_movesBetweenPostingLists() {
+        tagIndex.add(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withTags("owesMoney").build();
+        tagIndex.replace(BENSON, editedBenson);
+        assertTrue(tagIndex.getHolders(FRIENDS).isEmpty());
+        assertEquals(Set.of(editedBenson), tagIndex.getHolders(OWES_MONEY));
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        tagIndex.add(BENSON);
+        tagIndex.setAll(List.of(ALICE));
+        assertEquals(Set.of(ALICE), tagIndex.getHolders(FRIENDS));
+        assertTrue(tagIndex.getHolders(OWES_MONEY).isEmpty());
+    }
+
+    @Test
+    public void getHolders_modify_throwsUnsupportedOperationException() {
+        tagIndex.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> tagIndex.getHolders(FRIENDS).clear());
+    }
+}
@@ -0,0 +1,170 @@
+package soconnect.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag friends = new Tag("friends");
+    private final Tag owesMoney = new Tag("owesMoney");
+    private final Tag colleagues = new Tag("colleagues");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(Arrays.asList(friends, null)));
+    }
+
+    @Test
+    public void of_duplicateTags_sortedDistinctTags() {
+        TagSet tagSet = TagSet.of(Arrays.asList(owesMoney, friends, new Tag("owesMoney"), colleagues));
+        assertEquals(List.of(colleagues, friends, owesMoney), new ArrayList<>(tagSet));
+    }
+
+    @Test
+    public void of_emptyCollection_emptyTagSet() {
+        assertTrue(TagSet.of(new HashSet<>()) == TagSet.EMPTY);
+    }
+
+    @Test
+    public void of_tagSet_sameInstance() {
+        TagSet tagSet = TagSet.of(Set.of(friends, colleagues));
+        assertTrue(TagSet.of(tagSet) == tagSet);
+    }
+
+    @Test
+    public void equals_hashSetWithSameTags_true() {
+        TagSet tagSet = TagSet.of(Set.of(friends, colleagues));
+        Set<Tag> hashSet = new HashSet<>(Set.of(new Tag("colleagues"), new Tag("friends")));
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Set.of(friends, colleagues));
+        assertTrue(tagSet.contains(friends));
+        assertTrue(tagSet.contains(new Tag("colleagues")));
+        assertFalse(tagSet.contains(owesMoney));
+        assertFalse(tagSet.contains(null));
+    }
+
+    @Test
+    public void containsInterned_manyTagsInList_eachBitTested() {
+        // more tags than fit in one word of the bitset
+        UniqueTagList tagList = new UniqueTagList();
+        List<Tag> manyTags = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tagList.addTagToList(new Tag("many" + i));
+        }
+        tagList.forEach(manyTags::add);
+        TagSet tagSet = tagList.internAll(Set.copyOf(manyTags.subList(50, 100)));
+        for (int i = 0; i < manyTags.size(); i++) {
+            assertEquals(i >= 50, tagSet.containsInterned(manyTags.get(i)));
+            assertEquals(i >= 50, tagSet.contains(new Tag("many" + i)));
+        }
+    }
+
+    @Test
+    public void containsInterned_tagsNotFromList_comparedByName() {
+        TagSet tagSet = TagSet.of(Set.of(friends, colleagues));
+        assertTrue(tagSet.containsInterned(new Tag("friends")));
+        assertFalse(tagSet.containsInterned(owesMoney));
+    }
+
+    @Test
+    public void containsInterned_sparseOrdinals_sameResults() {
+        // a single tag with a high ordinal is not held as a bitset
+        TagSet tagSet = TagSet.of(Set.of(new Tag("sparse", 1000), new Tag("dense", 3)));
+        assertTrue(tagSet.containsInterned(new Tag("sparse", 1000)));
+        assertTrue(tagSet.containsInterned(new Tag("dense", 3)));
+        assertFalse(tagSet.containsInterned(new Tag("other", 4)));
+    }
+
+    @Test
+    public void containsInterned_ordinalReused_comparedByName() {
+        UniqueTagList tagList = new UniqueTagList();
+        tagList.setTags(List.of(friends, colleagues));
+        TagSet tagSet = tagList.internAll(Set.of(friends));
+
+        tagList.deleteTag(friends);
+        tagList.addTagToList(owesMoney);
+        assertFalse(tagSet.containsInterned(tagList.getTag(owesMoney)));
+        assertTrue(tagList.internAll(Set.of(owesMoney)).containsInterned(tagList.getTag(owesMoney)));
+    }
+
+    @Test
+    public void estimateSize_fewTagsFromList_bytesPerContactPinned() throws Exception {
+        UniqueTagList tagList = new UniqueTagList();
+        tagList.setTags(List.of(friends, colleagues, owesMoney, new Tag("family")));
+        List<Tag> tags = new ArrayList<>();
+        tagList.forEach(tags::add);
+
+        // the set object with its first bitset word, and the array of its tags
+        assertEquals(32L + 24, estimateSize(tagList.internAll(Set.copyOf(tags.subList(0, 1)))));
+        assertEquals(32L + 24, estimateSize(tagList.internAll(Set.copyOf(tags.subList(0, 2)))));
+        assertEquals(32L + 32, estimateSize(tagList.internAll(Set.copyOf(tags.subList(0, 3)))));
+        assertEquals(32L + 32, estimateSize(tagList.internAll(Set.copyOf(tags))));
+    }
+
+    @Test
+    public void estimateSize_highOrdinals_boundedBitset() throws Exception {
+        // two tags in different words keep one extra word, as it takes no more than one word per tag
+        TagSet twoWords = TagSet.of(Set.of(new Tag("low", 1), new Tag("high", 100)));
+        assertEquals(32L + 24 + 24, estimateSize(twoWords));
+
+        // a single tag with a high ordinal keeps no bitset at all
+        assertEquals(32L + 24, estimateSize(TagSet.of(Set.of(new Tag("sparse", 1000)))));
+    }
+
+    /**
+     * Returns the estimated number of bytes held by {@code tagSet} and its arrays, laid out by a 64-bit JVM with
+     * compressed references, with a 12-byte object header and a 16-byte array header, padded to 8 bytes.
+     * The tags themselves are shared with the tag list, so they are not counted.
+     */
+    private static long estimateSize(TagSet tagSet) throws ReflectiveOperationException {
+        long size = 12;
+        for (Field field : TagSet.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            Class<?> type = field.getType();
+            size += type == long.class ? 8 : type == boolean.class ? 1 : 4;
+            field.setAccessible(true);
+            Object value = field.get(tagSet);
+            if (value instanceof Object[]) {
+                size += padded(16 + 4L * ((Object[]) value).length);
+            } else if (value instanceof long[]) {
+                size += padded(16 + 8L * ((long[]) value).length);
+            }
+        }
+        return padded(size);
+    }
+
+    private static long padded(long size) {
+        return (size + 7) / 8 * 8;
+    }
+
+    @Test
+    public void modify_tagSet_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(friends));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(owesMoney));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(owesMoney));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
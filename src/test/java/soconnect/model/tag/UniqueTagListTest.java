@@ -0,0 +1,171 @@
+package soconnect.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import soconnect.model.tag.exceptions.DuplicateTagException;
+
+public class UniqueTagListTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag FAMILY = new Tag("family");
+
+    private final UniqueTagList uniqueTagList = new UniqueTagList();
+
+    @Test
+    public void setTags_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueTagList.setTags(null));
+    }
+
+    @Test
+    public void setTags_list_replacesOwnListWithProvidedList() {
+        uniqueTagList.addTagToList(FAMILY);
+        uniqueTagList.setTags(List.of(FRIENDS));
+        UniqueTagList expectedUniqueTagList = new UniqueTagList();
+        expectedUniqueTagList.addTagToList(FRIENDS);
+        assertEquals(expectedUniqueTagList, uniqueTagList);
+        assertTrue(uniqueTagList.hasTag(FRIENDS));
+    }
+
+    @Test
+    public void setTags_listWithDuplicateTags_throwsDuplicateTagException() {
+        List<Tag> listWithDuplicateTags = Arrays.asList(FRIENDS, FAMILY, new Tag("friends"));
+        assertThrows(DuplicateTagException.class, new DuplicateTagException(FRIENDS).getMessage(), ()
+            -> uniqueTagList.setTags(listWithDuplicateTags));
+    }
+
+    @Test
+    public void findTagNamesWithPrefix_prefixIgnoringCase_returnsNamesInOrder() {
+        uniqueTagList.setTags(List.of(FRIENDS, FAMILY, new Tag("colleagues")));
+        assertEquals(List.of("family", "friends"), uniqueTagList.findTagNamesWithPrefix("F", 10));
+        assertEquals(List.of("family"), uniqueTagList.findTagNamesWithPrefix("f", 1));
+        assertEquals(List.of(), uniqueTagList.findTagNamesWithPrefix("x", 10));
+    }
+
+    @Test
+    public void findTagNamesWithPrefix_tagsEditedAndDeleted_returnsCurrentNames() {
+        uniqueTagList.addTagToList(FRIENDS);
+        uniqueTagList.addTagToList(FAMILY);
+        uniqueTagList.editTag(FRIENDS, new Tag("fans"));
+        uniqueTagList.deleteTag(FAMILY);
+
+        assertEquals(List.of("fans"), uniqueTagList.findTagNamesWithPrefix("f", 10));
+        assertTrue(uniqueTagList.hasTag(new Tag("fans")));
+        assertFalse(uniqueTagList.hasTag(FRIENDS));
+    }
+
+    @Test
+    public void intern_tagInList_returnsInstanceInList() {
+        uniqueTagList.addTagToList(FRIENDS);
+        Tag friends = uniqueTagList.getTag(FRIENDS);
+        assertTrue(uniqueTagList.intern(new Tag("friends")) == friends);
+
+        Tag family = new Tag("family");
+        assertTrue(uniqueTagList.intern(family) == family);
+        assertTrue(uniqueTagList.intern(new Tag("Friends")).tagName.equals("Friends"));
+    }
+
+    @Test
+    public void internAll_tagsAlreadyInterned_returnsSameSet() {
+        uniqueTagList.addTagToList(FRIENDS);
+        uniqueTagList.addTagToList(FAMILY);
+        TagSet internedTags = uniqueTagList.internAll(Set.of(FRIENDS, FAMILY));
+        assertTrue(uniqueTagList.internAll(internedTags) == internedTags);
+
+        Set<Tag> copiedTags = uniqueTagList.internAll(Set.of(new Tag("friends"), FAMILY));
+        assertEquals(internedTags, copiedTags);
+        assertTrue(copiedTags.stream().allMatch(tag -> tag == uniqueTagList.getTag(tag)));
+    }
+
+    @Test
+    public void intern_tagWithOrdinalNotInList_ordinalDropped() {
+        UniqueTagList otherTagList = new UniqueTagList();
+        otherTagList.addTagToList(FAMILY);
+        uniqueTagList.addTagToList(FRIENDS);
+
+        Tag family = uniqueTagList.intern(otherTagList.getTag(FAMILY));
+        assertEquals(FAMILY, family);
+        assertEquals(-1, family.ordinal);
+        assertFalse(uniqueTagList.internAll(Set.of(FAMILY)).containsInterned(uniqueTagList.getTag(FRIENDS)));
+    }
+
+    @Test
+    public void addTagToList_tagDeleted_ordinalReused() {
+        uniqueTagList.setTags(List.of(FRIENDS, FAMILY));
+        TagSet friendsHolderTags = uniqueTagList.internAll(Set.of(FRIENDS));
+
+        uniqueTagList.deleteTag(FRIENDS);
+        uniqueTagList.addTagToList(new Tag("fans"));
+        Tag fans = uniqueTagList.getTag(new Tag("fans"));
+        assertEquals(0, fans.ordinal);
+
+        // a set still holding the deleted tag does not hold the tag given its ordinal
+        assertFalse(friendsHolderTags.containsInterned(fans));
+    }
+
+    @Test
+    public void editTag_tagInList_ordinalReused() {
+        uniqueTagList.setTags(List.of(FRIENDS, FAMILY));
+        TagSet familyHolderTags = uniqueTagList.internAll(Set.of(FAMILY));
+
+        uniqueTagList.editTag(FAMILY, new Tag("relatives"));
+        Tag relatives = uniqueTagList.getTag(new Tag("relatives"));
+        assertEquals(1, relatives.ordinal);
+        assertFalse(familyHolderTags.containsInterned(relatives));
+    }
+
+    @Test
+    public void editTag_manyEdits_ordinalsBelowTagCount() {
+        uniqueTagList.setTags(List.of(FRIENDS, FAMILY));
+        for (int i = 0; i < 100; i++) {
+            Tag oldTag = i == 0 ? FAMILY : new Tag("family" + (i - 1));
+            uniqueTagList.editTag(oldTag, new Tag("family" + i));
+        }
+
+        assertEquals(1, uniqueTagList.getTag(new Tag("family99")).ordinal);
+        uniqueTagList.deleteTag(FRIENDS);
+        uniqueTagList.addTagToList(new Tag("colleagues"));
+        assertEquals(0, uniqueTagList.getTag(new Tag("colleagues")).ordinal);
+    }
+
+    @Test
+    public void setTags_tagsInOtherOrder_ordinalsKept() {
+        uniqueTagList.setTags(List.of(FRIENDS, FAMILY));
+        TagSet friendsHolderTags = uniqueTagList.internAll(Set.of(FRIENDS));
+
+        uniqueTagList.setTags(List.of(FAMILY, new Tag("colleagues"), FRIENDS));
+        assertEquals(0, uniqueTagList.getTag(FRIENDS).ordinal);
+        assertEquals(1, uniqueTagList.getTag(FAMILY).ordinal);
+        assertFalse(friendsHolderTags.containsInterned(uniqueTagList.getTag(FAMILY)));
+        assertFalse(friendsHolderTags.containsInterned(uniqueTagList.getTag(new Tag("colleagues"))));
+        assertTrue(friendsHolderTags.containsInterned(uniqueTagList.getTag(FRIENDS)));
+    }
+
+    @Test
+    public void setTags_tagsFromOtherList_numberedTagsKept() {
+        uniqueTagList.setTags(List.of(FRIENDS, FAMILY));
+        UniqueTagList otherTagList = new UniqueTagList();
+        otherTagList.setTags(uniqueTagList.asUnmodifiableObservableList());
+
+        // tags already numbered in the same order are kept
+        assertTrue(otherTagList.getTag(FRIENDS) == uniqueTagList.getTag(FRIENDS));
+        assertTrue(otherTagList.getTag(FAMILY) == uniqueTagList.getTag(FAMILY));
+    }
+
+    @Test
+    public void setTags_tagsDropped_ordinalsReused() {
+        uniqueTagList.setTags(List.of(FRIENDS, FAMILY, new Tag("colleagues")));
+        uniqueTagList.setTags(List.of(new Tag("colleagues"), new Tag("fans")));
+
+        assertEquals(2, uniqueTagList.getTag(new Tag("colleagues")).ordinal);
+        assertEquals(0, uniqueTagList.getTag(new Tag("fans")).ordinal);
+    }
+}
@@ -0,0 +1,145 @@
+package soconnect.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
+import static soconnect.testutil.TypicalPersons.getTypicalSoConnect;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import soconnect.model.ReadOnlySoConnectLists;
+import soconnect.model.SoConnect;
+
+public class AsyncStorageManagerTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private AsyncStorageManager asyncStorageManager;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (asyncStorageManager != null) {
+            asyncStorageManager.shutdown();
+        }
+    }
+
+    @Test
+    public void saveSoConnect_burstOfSaves_latestSnapshotWrittenOnce() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        asyncStorageManager = new AsyncStorageManager(new StorageManagerStub(soConnect -> {
+            if (writeCount.incrementAndGet() == 1) {
+                firstWriteStarted.countDown();
+                firstWriteReleased.await();
+            }
+        }));
+
+        SoConnect soConnect = getTypicalSoConnect();
+        asyncStorageManager.saveSoConnect(soConnect);
+        firstWriteStarted.await();
+
+        // saves made while the first is written are coalesced into one write of the latest data
+        soConnect.removePerson(ALICE);
+        asyncStorageManager.saveSoConnect(soConnect);
+        soConnect.removePerson(BENSON);
+        asyncStorageManager.saveSoConnect(soConnect);
+        SoConnect expectedSoConnect = new SoConnect(soConnect);
+
+        // changes made after the save are not in the snapshot
+        soConnect.removePerson(soConnect.getPersonList().get(0));
+        firstWriteReleased.countDown();
+        asyncStorageManager.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(3L, asyncStorageManager.getLastPersistedSoConnectSequence());
+        assertEquals(expectedSoConnect, new SoConnect(asyncStorageManager.readSoConnect().get()));
+    }
+
+    @Test
+    public void checkSaveFailure_saveFailed_failureReportedOnce() throws Exception {
+        asyncStorageManager = new AsyncStorageManager(new StorageManagerStub(soConnect -> {
+            throw DUMMY_IO_EXCEPTION;
+        }));
+
+        asyncStorageManager.saveSoConnect(getTypicalSoConnect());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> asyncStorageManager.flush());
+        assertEquals(0L, asyncStorageManager.getLastPersistedSoConnectSequence());
+
+        // reported failure -> not reported again
+        asyncStorageManager.checkSaveFailure();
+    }
+
+    @Test
+    public void checkSaveFailure_runtimeExceptionInSave_failureReported() throws Exception {
+        asyncStorageManager = new AsyncStorageManager(new StorageManagerStub(soConnect -> {
+            throw new IllegalStateException("dummy runtime exception");
+        }));
+
+        asyncStorageManager.saveSoConnect(getTypicalSoConnect());
+        assertThrows(IOException.class, () -> asyncStorageManager.flush());
+        assertEquals(0L, asyncStorageManager.getLastPersistedSoConnectSequence());
+    }
+
+    @Test
+    public void saveSoConnect_snapshot_personsNotCopied() throws Exception {
+        SoConnect soConnect = getTypicalSoConnect();
+        List<ReadOnlySoConnectLists> snapshots = new ArrayList<>();
+        asyncStorageManager = new AsyncStorageManager(new StorageManagerStub(snapshots::add));
+
+        asyncStorageManager.saveSoConnect(soConnect);
+        asyncStorageManager.flush();
+
+        ReadOnlySoConnectLists snapshot = snapshots.get(0);
+        assertFalse(snapshot instanceof SoConnect);
+        assertTrue(snapshot.getPersonList().get(0) == soConnect.getPersonList().get(0));
+        assertEquals(soConnect.getTagList(), snapshot.getTagList());
+    }
+
+    /**
+     * A functional interface for the action of the stub when saving SoConnect.
+     */
+    @FunctionalInterface
+    private interface SaveAction {
+        void run(ReadOnlySoConnectLists soConnect) throws IOException, InterruptedException;
+    }
+
+    /**
+     * A {@code StorageManager} that runs an action before saving SoConnect.
+     */
+    private class StorageManagerStub extends StorageManager {
+        private final SaveAction saveAction;
+
+        StorageManagerStub(SaveAction saveAction) {
+            super(new JsonSoConnectStorage(testFolder.resolve("soConnect.json")),
+                    new JsonTodoListStorage(testFolder.resolve("todoList.json")),
+                    new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+            this.saveAction = saveAction;
+        }
+
+        @Override
+        public void saveSoConnect(ReadOnlySoConnectLists soConnect) throws IOException {
+            try {
+                saveAction.run(soConnect);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.saveSoConnect(soConnect);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package soconnect.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.HOON;
+import static soconnect.testutil.TypicalPersons.getTypicalSoConnect;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import soconnect.commons.exceptions.DataConversionException;
+import soconnect.model.SoConnect;
+import soconnect.model.TodoList;
+import soconnect.model.person.Person;
+import soconnect.model.tag.Tag;
+import soconnect.model.todo.Date;
+import soconnect.model.todo.Description;
+import soconnect.model.todo.Priority;
+import soconnect.model.todo.Todo;
+
+public class BinarySoConnectStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSoConnect_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinarySoConnectStorage(testFolder.resolve("missing.bin")).readSoConnect().isPresent());
+    }
+
+    @Test
+    public void readAndSaveSoConnect_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        SoConnect original = getTypicalSoConnect();
+        BinarySoConnectStorage storage = new BinarySoConnectStorage(filePath);
+
+        storage.saveSoConnect(original);
+        assertEquals(original, new SoConnect(storage.readSoConnect().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveSoConnect(original);
+        assertEquals(original, new SoConnect(storage.readSoConnect().get()));
+    }
+
+    @Test
+    public void saveSoConnect_sharedTags_writtenOnce() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        SoConnect soConnect = getTypicalSoConnect();
+        new BinarySoConnectStorage(filePath).saveSoConnect(soConnect);
+
+        // "friends" is held by several typical persons, but only the dictionary holds its name
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        assertEquals(content.indexOf("friends"), content.lastIndexOf("friends"));
+    }
+
+    @Test
+    public void readSoConnect_wrongKind_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("todolist.bin");
+        new BinaryTodoListStorage(filePath).saveTodoList(new TodoList());
+        assertThrows(DataConversionException.class, () -> new BinarySoConnectStorage(filePath).readSoConnect());
+    }
+
+    @Test
+    public void readSoConnect_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        new BinarySoConnectStorage(filePath).saveSoConnect(getTypicalSoConnect());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryDataFile.VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinarySoConnectStorage(filePath).readSoConnect());
+    }
+
+    @Test
+    public void readSoConnect_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        new BinarySoConnectStorage(filePath).saveSoConnect(getTypicalSoConnect());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinarySoConnectStorage(filePath).readSoConnect());
+    }
+
+    @Test
+    public void readSoConnect_duplicatePersons_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        BinaryDataFile.write(filePath, BinarySoConnectStorage.KIND, output -> {
+            output.writeTagDictionary(ALICE.getTags().stream());
+            output.writeTags(ALICE.getTags());
+            output.writeRows(List.of(ALICE, ALICE), person -> {
+                output.writeString(person.getName().fullName);
+                output.writeString(person.getPhone().value);
+                output.writeString(person.getEmail().value);
+                output.writeString(person.getAddress().value);
+                output.writeTags(person.getTags());
+            });
+        });
+
+        assertThrows(DataConversionException.class, () -> new BinarySoConnectStorage(filePath).readSoConnect());
+    }
+
+    @Test
+    public void readSoConnect_versionOneFile_success() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        Files.write(filePath, toBytes(BinarySoConnectStorage.KIND, 1, 0, 0, 0));
+
+        assertEquals(new SoConnect(), new SoConnect(new BinarySoConnectStorage(filePath).readSoConnect().get()));
+    }
+
+    @Test
+    public void readPersonsLazily_savedFile_personsRead() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        SoConnect soConnect = getTypicalSoConnect();
+        BinarySoConnectStorage storage = new BinarySoConnectStorage(filePath);
+        storage.saveSoConnect(soConnect);
+
+        List<Person> persons = storage.readPersonsLazily().get();
+        assertEquals(soConnect.getPersonList().size(), persons.size());
+        assertEquals(soConnect.getPersonList().get(3), persons.get(3));
+        assertEquals(soConnect.getPersonList(), persons);
+        assertThrows(IndexOutOfBoundsException.class, () -> persons.get(persons.size()));
+    }
+
+    @Test
+    public void readPersonsLazily_noIndex_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        assertFalse(new BinarySoConnectStorage(filePath).readPersonsLazily().isPresent());
+
+        Files.write(filePath, toBytes(BinarySoConnectStorage.KIND, 1, 0, 0, 0));
+        assertFalse(new BinarySoConnectStorage(filePath).readPersonsLazily().isPresent());
+
+        Path jsonPath = testFolder.resolve("soconnect.json");
+        new JsonSoConnectStorage(jsonPath).saveSoConnect(getTypicalSoConnect());
+        assertFalse(new JsonSoConnectStorage(jsonPath).readPersonsLazily().isPresent());
+    }
+
+    @Test
+    public void readPersonsLazily_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        new BinarySoConnectStorage(filePath).saveSoConnect(getTypicalSoConnect());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinarySoConnectStorage(filePath).readPersonsLazily());
+    }
+
+    @Test
+    public void readPersonsLazily_corruptedPerson_onlyThatPersonNull() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        SoConnect soConnect = getTypicalSoConnect();
+        new BinarySoConnectStorage(filePath).saveSoConnect(soConnect);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int indexPosition = bytes.getInt(bytes.capacity() - Integer.BYTES);
+        int secondPersonPosition = bytes.getInt(indexPosition + Integer.BYTES);
+        // The length of the name of the second person
+        bytes.putInt(secondPersonPosition, Integer.MAX_VALUE);
+        Files.write(filePath, bytes.array());
+
+        List<Person> persons = new BinarySoConnectStorage(filePath).readPersonsLazily().get();
+        assertEquals(soConnect.getPersonList().get(0), persons.get(0));
+        assertNull(persons.get(1));
+        assertEquals(soConnect.getPersonList().get(2), persons.get(2));
+    }
+
+    @Test
+    public void readPersonsLazily_fileReplaced_personsNull() throws Exception {
+        Path filePath = testFolder.resolve("soconnect.bin");
+        SoConnect soConnect = getTypicalSoConnect();
+        BinarySoConnectStorage storage = new BinarySoConnectStorage(filePath);
+        storage.saveSoConnect(soConnect);
+        List<Person> persons = storage.readPersonsLazily().get();
+
+        soConnect.removePerson(ALICE);
+        storage.saveSoConnect(soConnect);
+        assertNull(persons.get(1));
+    }
+
+    @Test
+    public void convertSoConnect_jsonToBinaryAndBack_allDataKept() throws Exception {
+        Path jsonPath = testFolder.resolve("soconnect.json");
+        Path binaryPath = testFolder.resolve("soconnect.bin");
+        Path convertedPath = testFolder.resolve("converted.json");
+        SoConnect original = getTypicalSoConnect();
+        original.addTag(new Tag("unused"));
+        new JsonSoConnectStorage(jsonPath).saveSoConnect(original);
+
+        assertTrue(DataFileFormat.convertSoConnect(jsonPath, binaryPath));
+        assertTrue(DataFileFormat.convertSoConnect(binaryPath, convertedPath));
+        assertEquals(original, new SoConnect(new BinarySoConnectStorage(binaryPath).readSoConnect().get()));
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedPath));
+        assertFalse(DataFileFormat.convertSoConnect(testFolder.resolve("missing.json"), binaryPath));
+    }
+
+    @Test
+    public void convertTodoList_jsonToBinaryAndBack_allDataKept() throws Exception {
+        Path jsonPath = testFolder.resolve("todolist.json");
+        Path binaryPath = testFolder.resolve("todolist.bin");
+        Path convertedPath = testFolder.resolve("converted.json");
+        TodoList original = new TodoList();
+        original.addTodo(new Todo(new Description("Submit report"), new Date("01-12-2026"), new Priority("high"),
+                Set.of(new Tag("work"), new Tag("urgent"))));
+        original.addTodo(new Todo(new Description("Buy gift"), new Date("24-12-2026"), new Priority("low"),
+                Set.of(new Tag("work"))));
+        new JsonTodoListStorage(jsonPath).saveTodoList(original);
+
+        assertTrue(DataFileFormat.convertTodoList(jsonPath, binaryPath));
+        assertTrue(DataFileFormat.convertTodoList(binaryPath, convertedPath));
+        assertEquals(original, new BinaryTodoListStorage(binaryPath).readTodoList(new SoConnect()).get());
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedPath));
+    }
+
+    /**
+     * Returns the bytes of {@code values} as written to a binary data file.
+     */
+    private static byte[] toBytes(int... values) {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES);
+        for (int value : values) {
+            bytes.putInt(value);
+        }
+        return bytes.array();
+    }
+
+    @Test
+    public void of_fileExtension_formatChosen() {
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.of(Path.of("data", "soconnect.BIN")));
+        assertEquals(DataFileFormat.JSON, DataFileFormat.of(Path.of("data", "soconnect.json")));
+        assertTrue(DataFileFormat.BINARY.createSoConnectStorage(Path.of("a.bin")) instanceof BinarySoConnectStorage);
+        assertTrue(DataFileFormat.JSON.createTodoListStorage(Path.of("a.json")) instanceof JsonTodoListStorage);
+    }
+}
@@ -1,16 +1,24 @@
 package soconnect.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static soconnect.testutil.Assert.assertThrows;
+import static soconnect.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import soconnect.commons.exceptions.IllegalValueException;
 import soconnect.commons.util.JsonUtil;
 import soconnect.model.SoConnect;
+import soconnect.model.person.Email;
+import soconnect.model.person.Person;
+import soconnect.model.tag.Tag;
+import soconnect.testutil.PersonBuilder;
 import soconnect.testutil.TypicalPersons;
 
 public class JsonSerializableSoConnectTest {
@@ -44,4 +52,80 @@ public class JsonSerializableSoConnectTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_convertedInParallel() throws Exception {
+        SoConnect expected = new SoConnect();
+        expected.addTag(new Tag("friends"));
+        for (int i = 0; i < JsonSerializableSoConnect.PARALLEL_LOAD_THRESHOLD; i++) {
+            expected.addPerson(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+
+        assertEquals(expected, new JsonSerializableSoConnect(expected).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithEqualAddresses_addressValueShared() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableSoConnect.PARALLEL_LOAD_THRESHOLD; i++) {
+            persons.add(new JsonAdaptedPerson("Person " + i, ALICE.getPhone().value, ALICE.getEmail().value,
+                    new String(ALICE.getAddress().value), List.of()));
+        }
+
+        List<Person> convertedPersons = new JsonSerializableSoConnect(persons, List.of()).toModelType()
+                .getPersonList();
+        String sharedValue = convertedPersons.get(0).getAddress().value;
+        for (Person person : convertedPersons) {
+            assertTrue(person.getAddress().value == sharedValue);
+        }
+    }
+
+    @Test
+    public void toModelType_personsWithTags_tagsOfTagListHeld() throws Exception {
+        SoConnect soConnect = new JsonSerializableSoConnect(TypicalPersons.getTypicalSoConnect()).toModelType();
+        for (Person person : soConnect.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                assertTrue(tag == soConnect.getTagFromList(tag));
+            }
+        }
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithErrors_firstErrorReported() {
+        List<JsonAdaptedPerson> persons = getManyAdaptedPersons();
+        persons.set(5000, new JsonAdaptedPerson(ALICE));
+        persons.set(9000, getAdaptedPersonWithEmail("Person 9000", "invalid"));
+        assertThrows(IllegalValueException.class, JsonSerializableSoConnect.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableSoConnect(persons, List.of(new JsonAdaptedTag("friends"))).toModelType());
+
+        persons.set(4000, getAdaptedPersonWithEmail("Person 4000", "invalid"));
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableSoConnect(persons, List.of(new JsonAdaptedTag("friends"))).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithUnknownTag_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = getManyAdaptedPersons();
+        assertThrows(IllegalValueException.class, JsonSerializableSoConnect.MESSAGE_TAG_NOT_FOUND, () ->
+                new JsonSerializableSoConnect(persons, List.of(new JsonAdaptedTag("colleagues"))).toModelType());
+    }
+
+    /**
+     * Returns enough persons to be converted in parallel, each with the details of {@code ALICE} but a name of its
+     * own. The first of them is {@code ALICE}.
+     */
+    private static List<JsonAdaptedPerson> getManyAdaptedPersons() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableSoConnect.PARALLEL_LOAD_THRESHOLD; i++) {
+            persons.add(getAdaptedPersonWithEmail("Person " + i, ALICE.getEmail().value));
+        }
+        persons.set(0, new JsonAdaptedPerson(ALICE));
+        return persons;
+    }
+
+    private static JsonAdaptedPerson getAdaptedPersonWithEmail(String name, String email) {
+        Person person = new PersonBuilder(ALICE).withName(name).build();
+        return new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value, email,
+                person.getAddress().value, List.of(new JsonAdaptedTag("friends")));
+    }
+
 }
@@ -2,22 +2,31 @@ package soconnect.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static soconnect.testutil.Assert.assertThrows;
 import static soconnect.testutil.TypicalPersons.ALICE;
+import static soconnect.testutil.TypicalPersons.BENSON;
 import static soconnect.testutil.TypicalPersons.HOON;
 import static soconnect.testutil.TypicalPersons.IDA;
 import static soconnect.testutil.TypicalPersons.getTypicalSoConnect;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import soconnect.commons.exceptions.DataConversionException;
+import soconnect.commons.util.FileUtil;
+import soconnect.commons.util.JsonUtil;
 import soconnect.model.ReadOnlySoConnect;
 import soconnect.model.SoConnect;
+import soconnect.model.tag.Tag;
+import soconnect.testutil.PersonBuilder;
 
 public class JsonSoConnectStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSoConnectStorageTest");
@@ -86,6 +95,142 @@ public class JsonSoConnectStorageTest {
 
     }
 
+    @Test
+    public void saveSoConnect_journaled_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("JournaledSoConnect.json");
+        Path journalPath = JournaledJsonFile.getJournalPath(filePath);
+        SoConnect original = getTypicalSoConnect();
+        JsonSoConnectStorage jsonSoConnectStorage = new JsonSoConnectStorage(filePath, true);
+
+        // first save writes the whole file
+        jsonSoConnectStorage.saveSoConnect(original);
+        String snapshot = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath));
+
+        // later saves only append the changes
+        original.addPerson(HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("98765432").build());
+        original.removePerson(ALICE);
+        original.addTag(new Tag("colleagues"));
+        jsonSoConnectStorage.saveSoConnect(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(journalPath));
+
+        // a new storage replays the journal, and appends to it
+        jsonSoConnectStorage = new JsonSoConnectStorage(filePath, true);
+        assertEquals(original, new SoConnect(jsonSoConnectStorage.readSoConnect().get()));
+        original.addPerson(IDA);
+        jsonSoConnectStorage.saveSoConnect(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(original, new SoConnect(new JsonSoConnectStorage(filePath).readSoConnect().get()));
+    }
+
+    @Test
+    public void saveSoConnect_journalFull_compactsIntoFile() throws Exception {
+        Path filePath = testFolder.resolve("CompactedSoConnect.json");
+        SoConnect original = new SoConnect();
+        JsonSoConnectStorage jsonSoConnectStorage = new JsonSoConnectStorage(filePath, true);
+        jsonSoConnectStorage.saveSoConnect(original);
+
+        for (int i = 0; i <= JournaledJsonFile.MAX_JOURNAL_RECORDS; i++) {
+            original.addTag(new Tag("tag" + i));
+            jsonSoConnectStorage.saveSoConnect(original);
+        }
+        assertFalse(Files.exists(JournaledJsonFile.getJournalPath(filePath)));
+        assertEquals(original, new SoConnect(new JsonSoConnectStorage(filePath).readSoConnect().get()));
+    }
+
+    @Test
+    public void readSoConnect_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("RewrittenSoConnect.json");
+        SoConnect original = getTypicalSoConnect();
+        JsonSoConnectStorage jsonSoConnectStorage = new JsonSoConnectStorage(filePath, true);
+        jsonSoConnectStorage.saveSoConnect(original);
+        original.addPerson(HOON);
+        jsonSoConnectStorage.saveSoConnect(original);
+
+        // rewriting the file leaves the journal of the older file behind
+        Path journalPath = JournaledJsonFile.getJournalPath(filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        new JsonSoConnectStorage(filePath).saveSoConnect(original);
+        Files.write(journalPath, journal);
+
+        assertEquals(original, new SoConnect(new JsonSoConnectStorage(filePath, true).readSoConnect().get()));
+
+        // the ignored journal is set aside, so the next save does not truncate it
+        assertFalse(Files.exists(journalPath));
+        assertTrue(Arrays.equals(journal,
+                Files.readAllBytes(journalPath.resolveSibling(journalPath.getFileName()
+                        + FileUtil.UNREADABLE_FILE_EXTENSION))));
+    }
+
+    @Test
+    public void compactSoConnect_journalWithRecords_compactsIntoFile() throws Exception {
+        Path filePath = testFolder.resolve("ShutDownSoConnect.json");
+        Path journalPath = JournaledJsonFile.getJournalPath(filePath);
+        SoConnect original = getTypicalSoConnect();
+        JsonSoConnectStorage jsonSoConnectStorage = new JsonSoConnectStorage(filePath, true);
+        jsonSoConnectStorage.saveSoConnect(original);
+        original.addPerson(HOON);
+        jsonSoConnectStorage.saveSoConnect(original);
+        assertTrue(Files.exists(journalPath));
+
+        jsonSoConnectStorage.compactSoConnect();
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new SoConnect(new JsonSoConnectStorage(filePath).readSoConnect().get()));
+
+        // a journal replayed on reading is compacted as well
+        original.addPerson(IDA);
+        jsonSoConnectStorage.saveSoConnect(original);
+        jsonSoConnectStorage = new JsonSoConnectStorage(filePath, true);
+        jsonSoConnectStorage.readSoConnect();
+        jsonSoConnectStorage.compactSoConnect();
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new SoConnect(new JsonSoConnectStorage(filePath).readSoConnect().get()));
+    }
+
+    @Test
+    public void readSoConnect_lastRecordCutOffInCharacter_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TornSoConnect.json");
+        SoConnect original = getTypicalSoConnect();
+        JsonSoConnectStorage jsonSoConnectStorage = new JsonSoConnectStorage(filePath, true);
+        jsonSoConnectStorage.saveSoConnect(original);
+        original.addPerson(HOON);
+        jsonSoConnectStorage.saveSoConnect(original);
+        SoConnect expected = new SoConnect(original);
+        original.addPerson(new PersonBuilder(IDA).withAddress("東京").build());
+        jsonSoConnectStorage.saveSoConnect(original);
+
+        // the last record is cut off after the first byte of a three-byte character
+        Path journalPath = JournaledJsonFile.getJournalPath(filePath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        String journalText = new String(journal, StandardCharsets.UTF_8);
+        int cutOff = journalText.substring(0, journalText.indexOf("東")).getBytes(StandardCharsets.UTF_8).length;
+        Files.write(journalPath, Arrays.copyOf(journal, cutOff + 1));
+
+        assertEquals(expected, new SoConnect(new JsonSoConnectStorage(filePath, true).readSoConnect().get()));
+    }
+
+    @Test
+    public void saveSoConnect_streamed_sameAsSerializedSoConnect() throws Exception {
+        Path filePath = testFolder.resolve("StreamedSoConnect.json");
+        SoConnect original = getTypicalSoConnect();
+        new JsonSoConnectStorage(filePath).saveSoConnect(original);
+
+        String expected = JsonUtil.toJsonString(new JsonSerializableSoConnect(original));
+        assertEquals(expected, FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readSoConnect_unknownFields_fieldsSkipped() throws Exception {
+        Path filePath = testFolder.resolve("ExtendedSoConnect.json");
+        SoConnect original = getTypicalSoConnect();
+        String json = JsonUtil.toJsonString(new JsonSerializableSoConnect(original));
+        FileUtil.writeToFile(filePath, "{\"version\": {\"format\": [1, 2]}, \"notes\": [\"a\"], " + json.substring(1));
+
+        assertEquals(original, new SoConnect(new JsonSoConnectStorage(filePath).readSoConnect().get()));
+    }
+
     @Test
     public void saveSoConnect_nullSoConnect_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSoConnect(null, "SomeFile.json"));
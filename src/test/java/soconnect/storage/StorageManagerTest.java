@@ -1,9 +1,12 @@
 package soconnect.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static soconnect.testutil.TypicalPersons.HOON;
 import static soconnect.testutil.TypicalPersons.getTypicalSoConnect;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +65,22 @@ public class StorageManagerTest {
         assertEquals(original, new SoConnect(retrieved));
     }
 
+    @Test
+    public void shutdown_journaledStorage_journalCompacted() throws Exception {
+        Path filePath = getTempFilePath("journaled");
+        storageManager = new StorageManager(new JsonSoConnectStorage(filePath, true),
+                new JsonTodoListStorage(getTempFilePath("todolist")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        SoConnect original = getTypicalSoConnect();
+        storageManager.saveSoConnect(original);
+        original.addPerson(HOON);
+        storageManager.saveSoConnect(original);
+
+        storageManager.shutdown();
+        assertFalse(Files.exists(JournaledJsonFile.getJournalPath(filePath)));
+        assertEquals(original, new SoConnect(new JsonSoConnectStorage(filePath).readSoConnect().get()));
+    }
+
     @Test
     public void getSoConnectFilePath() {
         assertNotNull(storageManager.getSoConnectFilePath());